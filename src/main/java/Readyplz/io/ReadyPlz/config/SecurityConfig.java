@@ -1,8 +1,11 @@
 package Readyplz.io.ReadyPlz.config;
 
+import Readyplz.io.ReadyPlz.security.BoundedPasswordEncoder;
 import Readyplz.io.ReadyPlz.security.JwtAuthenticationFilter;
+import Readyplz.io.ReadyPlz.security.PublicPaths;
 import Readyplz.io.ReadyPlz.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -33,6 +35,18 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final PublicPaths publicPaths;
+
+    // 비밀번호 해시 동시 실행 수 (0이면 CPU 코어 수의 절반, 최소 2)
+    @Value("${security.password-hash.threads:0}")
+    private int passwordHashThreads;
+
+    // 동시 실행 허용을 기다릴 수 있는 최대 요청 수. 대략 "동시 실행 수 x 대기 시간 / 해시 1회 시간" 이하로 설정
+    @Value("${security.password-hash.queue-capacity:100}")
+    private int passwordHashQueueCapacity;
+
+    @Value("${security.password-hash.wait-timeout-ms:3000}")
+    private long passwordHashWaitTimeoutMillis;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -40,11 +54,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())  // 토큰 기반 인증이므로 CSRF 보안 비활성화
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
-                // 공개 접근 가능한 경로 (정적 리소스 포함)
-                .requestMatchers("/", "/members/register", "/members/loginForm", 
-                               "/members/reset-request", "/members/reset-password",
-                               "/api/auth/**", "/health",
-                               "/css/**", "/js/**", "/images/**", "/static/**").permitAll()
+                // 공개 접근 가능한 경로 (정적 리소스 포함, JWT 필터 우회 목록과 공유)
+                .requestMatchers(publicPaths.permitAllPatterns()).permitAll()
                 
                 // 관리자 전용 경로
                 .requestMatchers("/admin/**").hasRole("ADMIN")
@@ -109,8 +120,13 @@ public class SecurityConfig {
     }
 
     //시큐리티를 통해서 비밀번호를 암호화 시켜서 저장해야 하기에 필요함.
+    //BCrypt 연산의 동시 실행 수를 제한 (포화 시 503)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        int threads = passwordHashThreads > 0
+                ? passwordHashThreads
+                : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads,
+                passwordHashQueueCapacity, passwordHashWaitTimeoutMillis);
     }
 }
@@ -1,18 +1,32 @@
 package Readyplz.io.ReadyPlz.controller;
 
+import Readyplz.io.ReadyPlz.security.BoundedPasswordEncoder;
+import Readyplz.io.ReadyPlz.security.StompConnectRateLimiter;
+import Readyplz.io.ReadyPlz.security.VerifiedTokenCache;
+import Readyplz.io.ReadyPlz.service.CustomUserDetailsService;
+import Readyplz.io.ReadyPlz.service.GameCatalogService;
+import Readyplz.io.ReadyPlz.service.GameOwnerCountReconciler;
 import Readyplz.io.ReadyPlz.service.JsonToDbService;
+import Readyplz.io.ReadyPlz.service.SecurityVersionService;
+import Readyplz.io.ReadyPlz.service.TokenBlacklistNearCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
  
 
 import java.io.IOException;
-import org.springframework.dao.DataAccessException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -22,27 +36,104 @@ import org.springframework.dao.DataAccessException;
 public class AdminController {
  
     private final JsonToDbService jsonToDbService;
-     // JSON 파일에서 게임 정보를 데이터베이스에 저장하는 관리자 전용 엔드포인트
-    @PostMapping("/db/load-json-games")
-    public ResponseEntity<String> loadGamesFromJsonFile() {
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistNearCache tokenBlacklistNearCache;
+    private final SecurityVersionService securityVersionService;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final StompConnectRateLimiter stompConnectRateLimiter;
+    private final GameCatalogService gameCatalogService;
+    private final GameOwnerCountReconciler gameOwnerCountReconciler;
+
+    // 인증 경로 로컬 캐시들의 크기/적중률, 비밀번호 해시 풀 대기열/지연 조회 (운영 모니터링용)
+    @GetMapping("/metrics/auth")
+    public ResponseEntity<Map<String, Object>> authMetrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("verifiedTokenCache", verifiedTokenCache.stats());
+        body.put("blacklistNearCache", tokenBlacklistNearCache.stats());
+        body.put("securityVersionCache", securityVersionService.stats());
+        body.put("userDetailsCache", customUserDetailsService.stats());
+        body.put("passwordHashing", passwordEncoder.stats());
+        body.put("stompConnect", stompConnectRateLimiter.stats());
+        return ResponseEntity.ok(body);
+    }
+
+    // 메모리 게임 카탈로그 상태 (크기, 메모리 사용량, 마지막 로드 시각)
+    @GetMapping("/metrics/catalog")
+    public ResponseEntity<Map<String, Object>> catalogMetrics() {
+        return ResponseEntity.ok(gameCatalogService.stats());
+    }
+
+    // DB에서 게임 카탈로그를 다시 만들어 바이너리 스냅샷 파일로 저장 (다음 기동부터 파일을 매핑해 DB 로드 없이 바로 사용)
+    @PostMapping("/catalog/snapshot")
+    public ResponseEntity<Map<String, Object>> writeCatalogSnapshot() {
         try {
-            jsonToDbService.saveDataFromJsonFile();
-            return ResponseEntity.ok("JSON 파일의 게임 정보가 성공적으로 데이터베이스에 저장되었습니다.");
+            return ResponseEntity.ok(gameCatalogService.writeSnapshot());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (IOException e) {
-            String errorMessage = "게임 데이터 JSON 파일을 읽는 중 오류가 발생했습니다: " + e.getMessage();
-            log.error(errorMessage, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(errorMessage);
-        } catch (DataAccessException e) {
-            String errorMessage = "데이터베이스에 게임 정보를 저장하는 중 오류가 발생했습니다: " + e.getMessage();
-            log.error(errorMessage, e);
+            log.error("게임 카탈로그 스냅샷 저장 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(errorMessage);
-        } catch (Exception e) {
-            String errorMessage = "JSON 파일 처리 중 알 수 없는 오류가 발생했습니다: " + e.getMessage();
-            log.error(errorMessage, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(errorMessage);
+                    .body(Map.of("error", "게임 카탈로그 스냅샷 저장 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 게임별 보유 회원 수(owner_count)를 member_game 집계와 바로 맞춤 (컬럼 추가 직후 등 정기 보정을 기다리지 않을 때)
+    @PostMapping("/games/owner-counts/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileOwnerCounts() {
+        int fixed = gameOwnerCountReconciler.reconcile();
+        if (fixed < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "다른 노드에서 보정이 진행 중입니다."));
+        }
+        return ResponseEntity.ok(Map.of("fixed", fixed));
+    }
+
+    // 게임 JSON 임포트 단계별 처리량 (진행 중이면 현재까지, 아니면 마지막 실행 결과)
+    @GetMapping("/metrics/import")
+    public ResponseEntity<Map<String, Object>> importMetrics() {
+        return ResponseEntity.ok(jsonToDbService.stats());
+    }
+
+    // JSON 파일의 게임 정보를 데이터베이스에 저장하는 임포트 작업을 백그라운드로 시작하고 작업 ID를 반환 (관리자 전용)
+    // resume=true(기본)이면 이전에 중단된 작업의 체크포인트 다음부터, false이면 처음부터 처리
+    // delta=true이면 새 게임 추가와 함께 내용이 바뀐 기존 게임만 수정 (기본은 새 게임만 추가)
+    @PostMapping("/db/load-json-games")
+    public ResponseEntity<Map<String, Object>> loadGamesFromJsonFile(
+            @RequestParam(value = "resume", defaultValue = "true") boolean resume,
+            @RequestParam(value = "delta", defaultValue = "false") boolean delta) {
+        try {
+            String jobId = jsonToDbService.startImport(resume, delta);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/admin/db/import-jobs/" + jobId))
+                    .body(jsonToDbService.jobStatus(jobId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 최근 임포트 작업 목록 (최신순)
+    @GetMapping("/db/import-jobs")
+    public ResponseEntity<List<Map<String, Object>>> importJobs() {
+        return ResponseEntity.ok(jsonToDbService.recentJobs());
+    }
+
+    // 임포트 작업 진행 상황 (파싱/저장/건너뜀/유효하지 않음 건수, 초당 처리 행 수)
+    @GetMapping("/db/import-jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> importJob(@PathVariable String jobId) {
+        Map<String, Object> status = jsonToDbService.jobStatus(jobId);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
+    // 임포트 작업 취소. 진행 중인 청크까지 커밋하고 멈추며, 다시 시작하면 체크포인트부터 이어서 처리
+    @PostMapping("/db/import-jobs/{jobId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelImportJob(@PathVariable String jobId) {
+        Map<String, Object> status = jsonToDbService.jobStatus(jobId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!jsonToDbService.cancelJob(jobId)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(status);
         }
+        return ResponseEntity.accepted().body(jsonToDbService.jobStatus(jobId));
     }
-}
\ No newline at end of file
+}
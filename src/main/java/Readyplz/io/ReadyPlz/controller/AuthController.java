@@ -4,10 +4,13 @@ import Readyplz.io.ReadyPlz.domain.Member;
 import Readyplz.io.ReadyPlz.domain.Role;
 import Readyplz.io.ReadyPlz.dto.MemberForm;
 import Readyplz.io.ReadyPlz.repository.RoleRepository;
+import Readyplz.io.ReadyPlz.security.PasswordHashingBusyException;
 import Readyplz.io.ReadyPlz.service.CustomUserDetailsService;
 import Readyplz.io.ReadyPlz.service.MemberService;
+import Readyplz.io.ReadyPlz.service.SecurityVersionService;
 import Readyplz.io.ReadyPlz.service.TokenService;
 import Readyplz.io.ReadyPlz.util.JwtTokenUtil;
+import Readyplz.io.ReadyPlz.util.VerifiedJwt;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.Cookie;
@@ -20,6 +23,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -46,6 +50,7 @@ public class AuthController {
     private final CustomUserDetailsService customUserDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final SecurityVersionService securityVersionService;
 
     @PostMapping("/login") //loginRequest는 클라이언트가 보내는 데이터
     public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> loginRequest, HttpServletRequest request, HttpServletResponse response) {
@@ -62,13 +67,13 @@ public class AuthController {
 
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-            // JWT 토큰 생성
-            String accessToken = jwtTokenUtil.generateAccessToken(userDetails);
-            String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
+            // JWT 토큰 생성 (보안 버전 sv 클레임 포함)
+            Long securityVersion = currentSecurityVersion(userDetails.getUsername());
+            String accessToken = jwtTokenUtil.generateAccessToken(userDetails, securityVersion);
+            String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails, securityVersion);
 
-            // Redis에 토큰 저장
-            tokenService.saveAccessToken(username, accessToken, ACCESS_TOKEN_EXPIRATION_MS);
-            tokenService.saveRefreshToken(username, refreshToken, REFRESH_TOKEN_EXPIRATION_MS);
+            // Redis에 토큰 저장 (왕복 1회)
+            tokenService.saveTokens(username, accessToken, ACCESS_TOKEN_EXPIRATION_MS, refreshToken, REFRESH_TOKEN_EXPIRATION_MS);
 
             boolean secure = request.isSecure();
             ResponseCookie accessCookie = ResponseCookie.from("accessToken", accessToken)
@@ -101,6 +106,19 @@ public class AuthController {
             Map<String, Object> errorBody = new HashMap<>();
             errorBody.put("message", "아이디 또는 비밀번호가 일치하지 않습니다.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorBody);
+        } catch (PasswordHashingBusyException e) {
+            log.warn("로그인 거부 (비밀번호 해시 풀 포화): {}", loginRequest.get("username"));
+            return serviceBusy(e);
+        } catch (InternalAuthenticationServiceException e) {
+            // 없는 사용자의 타이밍 공격 완화용 비교(matches)에서 풀이 포화되면 DaoAuthenticationProvider가 감싸서 던짐
+            if (e.getCause() instanceof PasswordHashingBusyException busy) {
+                log.warn("로그인 거부 (비밀번호 해시 풀 포화): {}", loginRequest.get("username"));
+                return serviceBusy(busy);
+            }
+            log.error("로그인 실패: {}", e.getMessage(), e);
+            Map<String, Object> errorBody = new HashMap<>();
+            errorBody.put("message", "로그인 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorBody);
         } catch (Exception e) {
             log.error("로그인 실패: {}", e.getMessage(), e);
             Map<String, Object> errorBody = new HashMap<>();
@@ -148,6 +166,9 @@ public class AuthController {
             Map<String, Object> response = new HashMap<>();
             response.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(response);
+        } catch (PasswordHashingBusyException e) {
+            log.warn("회원가입 거부 (비밀번호 해시 풀 포화): {}", memberForm.getUsername());
+            return serviceBusy(e);
         } catch (Exception e) {
             log.error("회원가입 실패: {}", e.getMessage());
             Map<String, Object> response = new HashMap<>();
@@ -178,38 +199,45 @@ public class AuthController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
             }
 
-            // 리프레시 토큰 검증
-            if (!jwtTokenUtil.isRefreshToken(refreshToken)) {
+            // 리프레시 토큰 검증 (서명 검증은 한 번만)
+            VerifiedJwt verifiedRefreshToken = null;
+            try {
+                verifiedRefreshToken = jwtTokenUtil.verify(refreshToken);
+            } catch (Exception ignored) {}
+            if (verifiedRefreshToken == null || !verifiedRefreshToken.isRefreshToken()) {
                 Map<String, Object> errorBody = new HashMap<>();
                 errorBody.put("message", "유효하지 않은 리프레시 토큰입니다");
                 return ResponseEntity.badRequest().body(errorBody);
             }
 
-            String username = jwtTokenUtil.extractUsername(refreshToken);
+            String username = verifiedRefreshToken.getSubject();
             UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
 
-            if (!jwtTokenUtil.validateToken(refreshToken, userDetails)) {
+            // 비밀번호 변경 등으로 보안 버전이 바뀌기 전에 발급된 토큰도 만료로 처리
+            Long tokenSecurityVersion = verifiedRefreshToken.getSecurityVersion();
+            if (!jwtTokenUtil.validateToken(verifiedRefreshToken, userDetails)
+                    || (tokenSecurityVersion != null && !securityVersionService.isCurrent(username, tokenSecurityVersion))) {
                 Map<String, Object> errorBody = new HashMap<>();
                 errorBody.put("message", "만료된 리프레시 토큰입니다");
                 return ResponseEntity.badRequest().body(errorBody);
             }
 
-            // Redis에 저장된 리프레시 토큰과 비교
-            String storedRefreshToken = tokenService.getRefreshToken(username);
-            if (!refreshToken.equals(storedRefreshToken)) {
+            // 새로운 액세스 토큰과 리프레시 토큰 생성 (Rotation)
+            Long securityVersion = currentSecurityVersion(username);
+            String newAccessToken = jwtTokenUtil.generateAccessToken(userDetails, securityVersion);
+            String newRefreshToken = jwtTokenUtil.generateRefreshToken(userDetails, securityVersion);
+
+            // Redis에 저장된 리프레시 토큰과 비교 + 새 토큰 저장을 한 번에 원자적으로 수행
+            // 두 탭이 동시에 갱신하면 먼저 도착한 요청만 성공
+            TokenService.RotationResult rotation = tokenService.rotateTokens(username, refreshToken,
+                    newAccessToken, ACCESS_TOKEN_EXPIRATION_MS, newRefreshToken, REFRESH_TOKEN_EXPIRATION_MS);
+            if (rotation == TokenService.RotationResult.REUSE_DETECTED) {
+                log.warn("리프레시 토큰 재사용 감지: {}", username);
                 Map<String, Object> errorBody = new HashMap<>();
                 errorBody.put("message", "재사용 혹은 위조된된 리프레시 토큰입니다");
                 return ResponseEntity.badRequest().body(errorBody);
             }
 
-            // 새로운 액세스 토큰과 리프레시 토큰 생성 (Rotation)
-            String newAccessToken = jwtTokenUtil.generateAccessToken(userDetails);
-            String newRefreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
-
-            // 새로운 토큰들을 Redis에 저장
-            tokenService.saveAccessToken(username, newAccessToken, ACCESS_TOKEN_EXPIRATION_MS); 
-            tokenService.saveRefreshToken(username, newRefreshToken, REFRESH_TOKEN_EXPIRATION_MS); 
-
             boolean secure = request.isSecure();
             ResponseCookie accessCookie = ResponseCookie.from("accessToken", newAccessToken)
                 .httpOnly(true)
@@ -272,9 +300,11 @@ public class AuthController {
 
             // 2) 사용자명 결정: accessToken 우선, 없으면 refreshToken 쿠키에서 추출 시도
             String username = null;
+            VerifiedJwt verifiedAccessToken = null;
             if (accessToken != null && !accessToken.isBlank()) {
                 try {
-                    username = jwtTokenUtil.extractUsername(accessToken);
+                    verifiedAccessToken = jwtTokenUtil.verify(accessToken);
+                    username = verifiedAccessToken.getSubject();
                 } catch (Exception ignored) {}
             }
             if (username == null) {
@@ -292,9 +322,9 @@ public class AuthController {
                 }
             }
 
-            // 토큰을 블랙리스트에 추가
-            if (accessToken != null && !accessToken.isBlank()) {
-                tokenService.addToBlacklist(accessToken, 3600000L);
+            // 토큰을 블랙리스트에 추가 (jti 키, 남은 수명만큼만 보관 / 검증 실패·만료 토큰은 어차피 거부되므로 생략)
+            if (verifiedAccessToken != null) {
+                tokenService.addToBlacklist(verifiedAccessToken);
             }
 
             // 사용자의 모든 토큰 삭제
@@ -360,11 +390,11 @@ public class AuthController {
 
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-            String accessToken = jwtTokenUtil.generateAccessToken(userDetails);
-            String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
+            Long securityVersion = currentSecurityVersion(userDetails.getUsername());
+            String accessToken = jwtTokenUtil.generateAccessToken(userDetails, securityVersion);
+            String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails, securityVersion);
 
-            tokenService.saveAccessToken(username, accessToken, ACCESS_TOKEN_EXPIRATION_MS);
-            tokenService.saveRefreshToken(username, refreshToken, REFRESH_TOKEN_EXPIRATION_MS);
+            tokenService.saveTokens(username, accessToken, ACCESS_TOKEN_EXPIRATION_MS, refreshToken, REFRESH_TOKEN_EXPIRATION_MS);
 
             boolean secure = request != null && request.isSecure();
             ResponseCookie accessCookie = ResponseCookie.from("accessToken", accessToken)
@@ -401,4 +431,18 @@ public class AuthController {
             return ResponseEntity.ok(errorBody);
         }
     }
-} 
\ No newline at end of file
+
+    // 비밀번호 해시 풀 포화: 바로 503으로 응답하고 잠시 후 재시도하도록 안내
+    private ResponseEntity<Map<String, Object>> serviceBusy(PasswordHashingBusyException e) {
+        Map<String, Object> errorBody = new HashMap<>();
+        errorBody.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorBody);
+    }
+
+    // 토큰에 넣을 현재 보안 버전 (회원이 없으면 sv 클레임 없이 발급)
+    private Long currentSecurityVersion(String username) {
+        return securityVersionService.currentVersion(username).orElse(null);
+    }
+}
@@ -3,19 +3,29 @@ package Readyplz.io.ReadyPlz.controller;
 import Readyplz.io.ReadyPlz.domain.Game;
 import Readyplz.io.ReadyPlz.domain.Member;
 import Readyplz.io.ReadyPlz.domain.MemberGame;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameCursorPageDTO;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSearchPageDTO;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSuggestionDTO;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
+import Readyplz.io.ReadyPlz.service.CatalogVersionService;
 import Readyplz.io.ReadyPlz.service.MemberGameService;
 import Readyplz.io.ReadyPlz.service.GameService;
+import Readyplz.io.ReadyPlz.service.GameSuggestService;
 import Readyplz.io.ReadyPlz.service.MemberService;
+import Readyplz.io.ReadyPlz.util.GameCursor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Set;
@@ -31,6 +41,15 @@ public class GameController {
     private final GameService gameService;
     private final MemberService memberService;
     private final MemberGameService memberGameService; 
+    private final GameSuggestService gameSuggestService;
+    private final CatalogVersionService catalogVersionService;
+
+    // 브라우저는 저장하되 매번 ETag로 재검증 (회원별 화면이므로 공유 캐시는 금지)
+    private static final String REVALIDATE_PRIVATE = "private, no-cache";
+
+    // 게임 목록 정렬: 이름순(기본), 인기순(보유 회원 수)
+    private static final String SORT_NAME = "name";
+    private static final String SORT_POPULAR = "popular";
 
     // 최대 선택 가능 게임 수
     private final int MAX_SELECTED_GAMES = 5;
@@ -39,38 +58,71 @@ public class GameController {
     public String gameCollection(@RequestParam(value = "page", defaultValue = "0") int page,
                                 @RequestParam(value = "size", defaultValue = "10") int size,
                                 @RequestParam(value = "search", defaultValue = "") String search,
+                                @RequestParam(value = "after", required = false) String after,
+                                @RequestParam(value = "before", required = false) String before,
+                                @RequestParam(value = "sort", defaultValue = SORT_NAME) String sort,
                                 Authentication auth,
-                                Model model) {
+                                Model model,
+                                WebRequest webRequest,
+                                HttpServletResponse response) {
         
-
         String username = auth.getName();
-        Member member = memberService.findByUsername(username);
 
-        // 사용자가 가진 게임 목록 조회
-        Set<MemberGame> memberGames = memberGameService.findByMember(member);
-        List<Game> userGames = memberGames.stream()
-                .map(MemberGame::getGame)
-                .collect(Collectors.toList());
-        List<Long> userGameIds = memberGames.stream()
-                .map(memberGame -> memberGame.getGame().getId())
+        // 인기순(보유 회원 수) 목록은 검색어 없이 전체를 대상으로 하며 항상 커서로 이동
+        boolean popular = SORT_POPULAR.equals(sort) && search.trim().isEmpty();
+
+        // 카탈로그/보유 관계/회원 정보가 그대로면 조회와 렌더링 없이 304
+        String etag = catalogVersionService.collectionEtag(username);
+        if (etag != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_PRIVATE);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+
+
+        // 사용자가 가진 게임 목록 조회 (DTO 프로젝션 한 번, Member/Game 엔티티는 로딩하지 않음)
+        List<GameSummaryDTO> userGames = memberGameService.findOwnedGameSummaries(username);
+        List<Long> userGameIds = userGames.stream()
+                .map(GameSummaryDTO::getId)
                 .collect(Collectors.toList());
+        Set<Long> userGameIdSet = Set.copyOf(userGameIds);
 
         model.addAttribute("userGames", userGames);
-        model.addAttribute("member", member);
         model.addAttribute("search", search);
 
         // N+1 쿼리 문제를 해결하기 위해 모든 게임에 대한 '같은 게임을 가진 유저' 목록을 한 번의 쿼리로 조회, N+1방지를 위해 DTO프로젝션으로 해결
         if (!userGameIds.isEmpty()) {
-            Map<Long, List<Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO>> sameGameUsersMap = memberGameService.getSameGameUsersForAllGames(userGameIds, member.getId());
+            Map<Long, List<Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO>> sameGameUsersMap = memberGameService.getSameGameUsersForAllGames(userGameIds, username);
             model.addAttribute("sameGameUsersMap", sameGameUsersMap);
         } else {
             model.addAttribute("sameGameUsersMap", new HashMap<>());
         }
 
+        // 이전/다음 이동은 커서(키셋) 방식: 깊은 페이지도 OFFSET/COUNT 없이 첫 페이지와 같은 비용
+        GameCursor afterCursor = GameCursor.decode(after);
+        GameCursor beforeCursor = afterCursor == null ? GameCursor.decode(before) : null;
+
+        model.addAttribute("sort", popular ? SORT_POPULAR : SORT_NAME);
+        if (popular) {
+            GameCursorPageDTO popularPage = gameService.findPopularPage(afterCursor, beforeCursor, size);
+            addCursorPage(model, popularPage, userGameIdSet, page, size);
+            model.addAttribute("hasResults", !popularPage.getContent().isEmpty());
+            return "games/collection";
+        }
+
+        if (afterCursor != null || beforeCursor != null) {
+            GameCursorPageDTO cursorPage = gameService.findPageByCursor(search.trim(), afterCursor, beforeCursor, size);
+            addCursorPage(model, cursorPage, userGameIdSet, page, size);
+            model.addAttribute("hasResults", !search.trim().isEmpty() || !cursorPage.getContent().isEmpty());
+            return "games/collection";
+        }
+
         if (search != null && !search.trim().isEmpty()) {
             Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending()); 
-            Page<Game> gamesPage = gameService.findByName(search.trim(), pageable);
-            List<Game> games = gamesPage.getContent();
+            GameSearchPageDTO searchPage = gameService.findByName(search.trim(), pageable);
+            Page<GameSummaryDTO> gamesPage = searchPage.getPage();
+            List<GameSummaryDTO> games = gamesPage.getContent();
             
             // 디버깅 로그 추가
             // System.out.println("=== 게임 컬렉션 페이지 디버깅 ===");
@@ -83,32 +135,82 @@ public class GameController {
             // System.out.println("================================");
             
             games.forEach(game -> {
-                game.setUserHasGame(userGameIds.contains(game.getId()));  //검색된 각 게임에 대해, 현재 사용자가 이미 가지고 있는 게임인지 여부를 나타내는 boolean 플래그를 설정합니다. 이는 뷰에서 "추가" 또는 "삭제" 버튼을 동적으로 표시하는 데 사용됩니다.
+                game.setUserHasGame(userGameIdSet.contains(game.getId()));  //검색된 각 게임에 대해, 현재 사용자가 이미 가지고 있는 게임인지 여부를 나타내는 boolean 플래그를 설정합니다. 이는 뷰에서 "추가" 또는 "삭제" 버튼을 동적으로 표시하는 데 사용됩니다.
             });
             
             model.addAttribute("games", games);
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", gamesPage.getTotalPages());
             model.addAttribute("totalElements", gamesPage.getTotalElements());
+            // 유사 이름 결과는 검색어를 포함하지 않으므로 "총 N개" 대신 "혹시 찾으시는 게임" 안내로 표시
+            model.addAttribute("fuzzy", searchPage.isFuzzy());
+            addCursors(model, gamesPage);
             model.addAttribute("hasResults", true); // 검색 결과가 있음을 명시
         } else {
             Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
-            Page<Game> gamesPage = gameService.findAll(pageable);
-            List<Game> games = gamesPage.getContent();
+            // 전체 목록은 메모리 게임 카탈로그에서 제공 (DB 조회 없음)
+            Page<GameSummaryDTO> gamesPage = gameService.findAll(pageable);
+            List<GameSummaryDTO> games = gamesPage.getContent();
 
             games.forEach(game -> {
-                game.setUserHasGame(userGameIds.contains(game.getId()));
+                game.setUserHasGame(userGameIdSet.contains(game.getId()));
             });
 
             model.addAttribute("games", games);
             model.addAttribute("currentPage", page);
             model.addAttribute("totalPages", gamesPage.getTotalPages());
             model.addAttribute("totalElements", gamesPage.getTotalElements());
+            addCursors(model, gamesPage);
             model.addAttribute("hasResults", !games.isEmpty());
         }
         return "games/collection"; //templates/games/collection.html (Thymeleaf 기준) 뷰를 렌더링하도록 지시합니다.
     }
 
+    private void addCursorPage(Model model, GameCursorPageDTO cursorPage, Set<Long> userGameIdSet, int page, int size) {
+        List<GameSummaryDTO> games = cursorPage.getContent();
+        games.forEach(game -> game.setUserHasGame(userGameIdSet.contains(game.getId())));
+
+        int currentPage = cursorPage.getPageIndex() != null ? cursorPage.getPageIndex() : page;
+        model.addAttribute("games", games);
+        model.addAttribute("currentPage", currentPage);
+        model.addAttribute("totalPages", (int) ((cursorPage.getTotalElements() + size - 1) / size));
+        model.addAttribute("totalElements", cursorPage.getTotalElements());
+        model.addAttribute("prevCursor", cursorPage.getPrevCursor());
+        model.addAttribute("nextCursor", cursorPage.getNextCursor());
+    }
+
+    // 페이지 번호로 이동한 경우에도 이전/다음 링크는 커서로 연결
+    private void addCursors(Model model, Page<GameSummaryDTO> gamesPage) {
+        List<GameSummaryDTO> games = gamesPage.getContent();
+        String prevCursor = null;
+        String nextCursor = null;
+        if (!games.isEmpty()) {
+            GameSummaryDTO first = games.get(0);
+            GameSummaryDTO last = games.get(games.size() - 1);
+            prevCursor = gamesPage.hasPrevious() ? new GameCursor(first.getId(), first.getName()).encode() : null;
+            nextCursor = gamesPage.hasNext() ? new GameCursor(last.getId(), last.getName()).encode() : null;
+        }
+        model.addAttribute("prevCursor", prevCursor);
+        model.addAttribute("nextCursor", nextCursor);
+    }
+
+    // 검색창 자동완성: 입력한 접두사로 시작하는 게임을 보유 회원 수 순으로 반환 (메모리 색인, DB 조회 없음)
+    @GetMapping("/suggest")
+    @ResponseBody
+    public ResponseEntity<List<GameSuggestionDTO>> suggest(@RequestParam(value = "q", defaultValue = "") String query,
+                                                           @RequestParam(value = "limit", defaultValue = "10") int limit,
+                                                           WebRequest webRequest,
+                                                           HttpServletResponse response) {
+        String etag = catalogVersionService.catalogEtag();
+        if (etag != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_PRIVATE);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+        return ResponseEntity.ok(gameSuggestService.suggest(query, limit));
+    }
+
     @PostMapping("/collection/add-game")
     @ResponseBody
     public ResponseEntity<String> addGameToCollection(@RequestParam("gameId") Long gameId, Authentication auth) {
@@ -4,6 +4,7 @@ import Readyplz.io.ReadyPlz.dto.CountryDTO;
 import Readyplz.io.ReadyPlz.dto.MemberForm;
 import Readyplz.io.ReadyPlz.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +14,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Controller
 @RequestMapping("/members")
@@ -21,6 +25,10 @@ public class MemberController {
 
     private final MemberService memberService;
 
+    // 재설정 요청 최소 응답 시간: 이메일 존재 여부와 관계없이 응답 시간을 맞춤 (BCrypt 대신 CPU를 쓰지 않는 대기)
+    @Value("${security.reset-request.min-duration-ms:300}")
+    private long resetRequestMinDurationMs;
+
     @GetMapping("/register")
     public String registerForm(Model model, Locale locale) {
         model.addAttribute("memberForm", new MemberForm());
@@ -44,10 +52,23 @@ public class MemberController {
     
     
     @PostMapping("/reset-request") 
-    public String handleResetRequest(@RequestParam("email") String email, RedirectAttributes redirectAttributes) { 
-        memberService.createPasswordResetToken(email); 
-        redirectAttributes.addFlashAttribute("msg", "입력하신 이메일로 비밀번호 재설정 메일이 발송되었습니다."); 
-        return "redirect:/members/loginForm"; 
+    public CompletableFuture<String> handleResetRequest(@RequestParam("email") String email, RedirectAttributes redirectAttributes) { 
+        // 사용자 열거형 공격 방지: 존재 여부와 무관하게 동일한 최소 시간 후 응답
+        long startedAt = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            memberService.createPasswordResetToken(email);
+            redirectAttributes.addFlashAttribute("msg", "입력하신 이메일로 비밀번호 재설정 메일이 발송되었습니다."); 
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        RuntimeException error = failure;
+        return completeAfterMinimumDuration(startedAt, resetRequestMinDurationMs, () -> {
+            if (error != null) {
+                throw error;
+            }
+            return "redirect:/members/loginForm";
+        });
     }
 
     @GetMapping("/reset-password")
@@ -79,4 +100,13 @@ public class MemberController {
         redirectAttributes.addFlashAttribute("msg", "비밀번호가 성공적으로 변경되었습니다.");
         return "redirect:/members/loginForm";
     }
-} 
\ No newline at end of file
+
+    // 남은 최소 시간이 지난 뒤 응답을 완료. 요청 스레드를 재우지 않고 Servlet 비동기 처리로 반환 (대기 중에는 스레드를 쓰지 않음)
+    private static <T> CompletableFuture<T> completeAfterMinimumDuration(long startedAt, long minDurationMs, Supplier<T> result) {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(minDurationMs) - (System.nanoTime() - startedAt);
+        if (remainingNanos <= 0) {
+            return CompletableFuture.supplyAsync(result, Runnable::run);
+        }
+        return CompletableFuture.supplyAsync(result, CompletableFuture.delayedExecutor(remainingNanos, TimeUnit.NANOSECONDS));
+    }
+}
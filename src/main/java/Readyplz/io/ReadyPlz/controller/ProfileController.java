@@ -3,6 +3,7 @@ package Readyplz.io.ReadyPlz.controller;
 import Readyplz.io.ReadyPlz.domain.Game;
 import Readyplz.io.ReadyPlz.domain.Member;
 import Readyplz.io.ReadyPlz.domain.MemberGame;
+import Readyplz.io.ReadyPlz.security.PasswordHashingBusyException;
 import Readyplz.io.ReadyPlz.service.MemberGameService;
 import Readyplz.io.ReadyPlz.service.MemberService;
 import lombok.RequiredArgsConstructor;
@@ -109,6 +110,8 @@ public class ProfileController {
             if (reason == null || reason.isBlank()) reason = "password_input_error";
             redirectAttributes.addFlashAttribute("error", reason);
             return "redirect:/members/profile";
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 503 응답 (ResponseStatus)
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "delete_failed");
             return "redirect:/members/profile";
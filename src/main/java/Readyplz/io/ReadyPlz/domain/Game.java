@@ -13,7 +13,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) 
 @ToString(exclude = {"memberGames"}) // 양방향 연관관계 시 순환참조 방지를 위해 userGames 제외
 @Entity
-@Table(name = "game") // 데이터베이스 테이블명을 "game"으로 지정
+@Table(name = "game", // 데이터베이스 테이블명을 "game"으로 지정
+        indexes = @Index(name = "idx_game_owner_count_name", columnList = "owner_count DESC, name")) // 인기순(보유 회원 수) 정렬/키셋 조회용
 public class Game {
 
     @Id
@@ -33,6 +34,16 @@ public class Game {
     @Column(name = "release_date")
     private LocalDate releaseDate;
 
+    // 이 게임을 보유한 회원 수 (member_game 집계의 비정규화 값, 인기순 정렬용)
+    // 보유 관계 변경 시 벌크 update로만 증감하므로 엔티티 저장/수정이 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Column(name = "owner_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int ownerCount;
+
+    // 이름/출시일/이미지 URL의 64비트 해시. 임포트 델타 동기화에서 바뀐 게임만 골라 수정하는 데 사용 (컬럼 추가 전 행은 null)
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     // 사용자가 해당 게임을 가지고 있는지 표시하는 임시 필드 (DB에 저장되지 않음)
     @Transient
     @Setter
@@ -67,7 +78,7 @@ public class Game {
         this.name = name;
         this.headerImageUrl = headerImageUrl;
         this.releaseDate = releaseDate;
-      
+        this.contentHash = contentHashOf(name, releaseDate, headerImageUrl);
     }
 
     // == 연관관계 편의 메서드 == //
@@ -124,6 +135,31 @@ public class Game {
         this.name = name;
         this.releaseDate = releaseDate;
         this.headerImageUrl = headerImageUrl;
+        this.contentHash = contentHashOf(name, releaseDate, headerImageUrl);
+    }
+
+    /**
+     * 게임 내용(이름, 출시일, 이미지 URL)의 64비트 FNV-1a 해시. null과 빈 문자열을 구분합니다.
+     * 저장된 해시와 같으면 내용이 바뀌지 않은 것으로 보고 수정을 생략합니다 (15만 건 기준 충돌 확률은 무시할 수준).
+     */
+    public static long contentHashOf(String name, LocalDate releaseDate, String headerImageUrl) {
+        long hash = 0xcbf29ce484222325L;
+        hash = fnv1a(hash, name);
+        hash = fnv1a(hash, releaseDate != null ? releaseDate.toString() : null);
+        return fnv1a(hash, headerImageUrl);
+    }
+
+    private static long fnv1a(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0x01) * 0x100000001b3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * 0x100000001b3L;
+            hash = (hash ^ (c >>> 8)) * 0x100000001b3L;
+        }
+        // 필드 구분자 (다음 필드와 이어 붙어 같은 해시가 나오지 않도록)
+        return (hash ^ 0x00) * 0x100000001b3L;
     }
 
     public Integer getAppid() {
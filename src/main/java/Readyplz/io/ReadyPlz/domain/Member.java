@@ -1,6 +1,7 @@
 package Readyplz.io.ReadyPlz.domain;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.*; // Spring Boot 3 이상은 jakarta.persistence 사용
 
@@ -49,6 +50,12 @@ public class Member {
     @Column(name = "reset_token_expiry")
     private LocalDateTime resetTokenExpiry;
 
+    // 보안 버전: 비밀번호가 바뀔 때마다 증가하며 JWT의 sv 클레임과 비교해 이전 토큰을 무효화합니다.
+    @Column(name = "security_version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long securityVersion = 0L;
+
     // ★★★★★ Role과의 Many-to-Many 관계 추가 ★★★★★
     @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinTable(
@@ -147,6 +154,11 @@ public class Member {
 
     public void changePassword(String encodedPassword) {
         this.password = encodedPassword;
+        increaseSecurityVersion();
+    }
+
+    public void increaseSecurityVersion() {
+        this.securityVersion = (this.securityVersion == null ? 0L : this.securityVersion) + 1;
     }
 
     public void setResetToken(String resetToken) {
@@ -0,0 +1,19 @@
+package Readyplz.io.ReadyPlz.dto.SummaryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+//키셋 페이지네이션 결과 DTO, 이전/다음 커서는 해당 방향에 더 이상 게임이 없으면 null.
+public class GameCursorPageDTO {
+    private final List<GameSummaryDTO> content;
+    private final String prevCursor;
+    private final String nextCursor;
+    // 카탈로그 사용 시 정확한 값, DB 조회 시 일정 시간 캐시된 값
+    private final long totalElements;
+    // 현재 페이지 번호 (위치를 알 수 없는 DB 키셋 조회에서는 null)
+    private final Integer pageIndex;
+}
@@ -0,0 +1,13 @@
+package Readyplz.io.ReadyPlz.dto.SummaryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Getter
+@AllArgsConstructor
+//이름 검색 결과 DTO, fuzzy가 true이면 검색어를 포함하는 게임이 없어 비슷한 이름을 유사도 순으로 보여 주는 한 페이지 (이름 순이 아님).
+public class GameSearchPageDTO {
+    private final Page<GameSummaryDTO> page;
+    private final boolean fuzzy;
+}
@@ -0,0 +1,15 @@
+package Readyplz.io.ReadyPlz.dto.SummaryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+//게임 이름 자동완성 응답 DTO (보유 회원 수 순)
+public class GameSuggestionDTO {
+    private Long id;
+    private String name;
+    private int ownerCount;
+}
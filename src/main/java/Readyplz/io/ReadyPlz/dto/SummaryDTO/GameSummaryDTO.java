@@ -0,0 +1,30 @@
+package Readyplz.io.ReadyPlz.dto.SummaryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+//게임 목록/검색 화면용 DTO, 메모리 카탈로그(GameCatalog)와 DB 프로젝션 모두 이 형태로 반환함.
+public class GameSummaryDTO {
+    private Long id;
+    private Integer appid;
+    private String name;
+    private String headerImageUrl;
+    private Integer releaseYear;
+    // 현재 사용자가 보유한 게임인지 (화면에서 추가/삭제 버튼 표시용)
+    private boolean userHasGame;
+    // 보유 회원 수 (인기순 조회에서만 채움, 그 외 null)
+    private Integer ownerCount;
+
+    // JPQL 생성자 프로젝션용
+    public GameSummaryDTO(Long id, Integer appid, String name, String headerImageUrl, Integer releaseYear) {
+        this(id, appid, name, headerImageUrl, releaseYear, false, null);
+    }
+
+    public GameSummaryDTO(Long id, Integer appid, String name, String headerImageUrl, Integer releaseYear, boolean userHasGame) {
+        this(id, appid, name, headerImageUrl, releaseYear, userHasGame, null);
+    }
+}
@@ -0,0 +1,21 @@
+package Readyplz.io.ReadyPlz.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임 테이블 내용이 바뀌었을 때(JSON 임포트 등) 발행되는 이벤트입니다.
+ * 메모리 게임 카탈로그가 이 이벤트를 받아 새 스냅샷으로 교체합니다.
+ * remote=true는 다른 노드에서 Redis Pub/Sub으로 전달받은 이벤트로, 다시 전파하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameCatalogChangedEvent {
+    // 이번 변경으로 추가되거나 수정된 게임 수 (0이면 교체를 생략할 수 있음)
+    private final int changedCount;
+    private final boolean remote;
+
+    public GameCatalogChangedEvent(int changedCount) {
+        this(changedCount, false);
+    }
+}
@@ -0,0 +1,18 @@
+package Readyplz.io.ReadyPlz.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원의 게임 보유 관계가 추가/삭제되었을 때 발행되는 이벤트입니다.
+ * 계정 삭제처럼 한 회원의 여러 게임이 한 번에 바뀌면 게임 ID들을 모아 한 번만 발행합니다.
+ * delta는 각 게임 보유 회원 수의 변화량(+1 추가, -1 삭제)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameOwnershipChangedEvent {
+    private final List<Long> gameIds;
+    private final int delta;
+}
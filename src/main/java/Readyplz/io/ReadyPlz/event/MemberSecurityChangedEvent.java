@@ -0,0 +1,20 @@
+package Readyplz.io.ReadyPlz.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비밀번호 변경/재설정, 닉네임 변경, 계정 삭제, 권한 변경처럼 회원의 계정/인증 정보가 바뀌었을 때 발행되는 이벤트입니다.
+ * 커밋 이후 인증 관련 로컬 캐시(보안 버전, UserDetails, 검증된 토큰)를 비우는 데 사용합니다.
+ * remote=true는 다른 노드에서 Redis Pub/Sub으로 전달받은 이벤트로, 다시 전파하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberSecurityChangedEvent {
+    private final String username;
+    private final boolean remote;
+
+    public MemberSecurityChangedEvent(String username) {
+        this(username, false);
+    }
+}
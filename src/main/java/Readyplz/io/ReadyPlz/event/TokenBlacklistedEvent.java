@@ -0,0 +1,14 @@
+package Readyplz.io.ReadyPlz.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰이 블랙리스트에 등록되었을 때(로컬 로그아웃 또는 다른 노드의 Pub/Sub 알림) 발행되는 이벤트입니다.
+ * id는 블랙리스트 로컬 캐시가 사용하는 토큰 식별자입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenBlacklistedEvent {
+    private final String id;
+}
@@ -1,19 +1,22 @@
 package Readyplz.io.ReadyPlz.repository;
 
 import Readyplz.io.ReadyPlz.domain.Game;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository // 이 어노테이션은 필수는 아니지만, 명시적으로 컴포넌트 스캔 대상으로 지정할 수 있습니다.
             // JpaRepository를 상속받는 인터페이스는 Spring Data JPA가 자동으로 빈으로 등록합니다.
-public interface GameRepository extends JpaRepository<Game, Long> {
+public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
                                      // JpaRepository<Entity클래스, PK타입>
 
     // 기본적인 CRUD 메서드는 JpaRepository에서 이미 제공됩니다:
@@ -80,4 +83,152 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     @Query("select g.name from Game g where g.name in :names")
     List<String> findExistingNames(@Param("names") List<String> names);
 
-}
\ No newline at end of file
+    // 임포트 시작 시 메모리 중복 확인용 전체 appid
+    @Query("select g.appid from Game g")
+    List<Integer> findAllAppids();
+
+    // 임포트 시작 시 메모리 중복 확인용 전체 이름 (해시로 바꿔 보관)
+    @Query("select g.name from Game g")
+    List<String> findAllNames();
+
+    /**
+     * 주어진 이름 목록 중 이미 DB에 존재하는 게임의 [appid, name]을 한 번의 쿼리로 조회합니다. (델타 동기화의 이름 충돌 확인용)
+     */
+    @Query("select g.appid, g.name from Game g where g.name in :names")
+    List<Object[]> findAppidsByNames(@Param("names") List<String> names);
+
+    // 델타 동기화에서 바뀐 게임만 수정하기 위한 엔티티 조회
+    List<Game> findByAppidIn(Collection<Integer> appids);
+
+    // 델타 동기화용 전체 [appid, contentHash] (해시가 저장된 행만)
+    @Query("select g.appid, g.contentHash from Game g where g.contentHash is not null")
+    List<Object[]> findContentHashes();
+
+    // content_hash 컬럼 추가 전에 저장된 행 (해시 채우기용, 영속성 컨텍스트가 커지지 않도록 1000건씩)
+    List<Game> findTop1000ByContentHashIsNull();
+
+    /**
+     * 메모리 게임 카탈로그 구성용: 화면에 필요한 컬럼만 전체 조회합니다.
+     */
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g")
+    List<GameSummaryDTO> findAllSummaries();
+
+    // 카탈로그 스냅샷이 DB와 같은지 확인하는 요약 [게임 수, 최대 id, 최대 수정 시각]
+    @Query("select count(g), max(g.id), max(g.updatedAt) from Game g")
+    List<Object[]> findCatalogFingerprint();
+
+    /**
+     * 카탈로그를 쓸 수 없을 때의 목록 조회 (DTO 프로젝션)
+     */
+    @Query(value = "select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g",
+           countQuery = "select count(g) from Game g")
+    Page<GameSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * 이름에 키워드가 포함된 게임을 DTO로 페이지 조회합니다. (대소문자 무시)
+     */
+    @Query(value = "select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where lower(g.name) like lower(concat('%', :keyword, '%'))",
+           countQuery = "select count(g) from Game g where lower(g.name) like lower(concat('%', :keyword, '%'))")
+    Page<GameSummaryDTO> findSummariesByNameContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g where g.id = :id")
+    Optional<GameSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    // ===== 키셋(seek) 페이지네이션: (name, id) 정렬 키 기준으로 OFFSET/COUNT 없이 조회 (Pageable은 개수 제한용) =====
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "order by g.name asc, g.id asc")
+    List<GameSummaryDTO> findSummariesFirst(Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where g.name > :name or (g.name = :name and g.id > :id) order by g.name asc, g.id asc")
+    List<GameSummaryDTO> findSummariesAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    // 역순으로 읽으므로 호출하는 쪽에서 다시 뒤집어야 함
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where g.name < :name or (g.name = :name and g.id < :id) order by g.name desc, g.id desc")
+    List<GameSummaryDTO> findSummariesBefore(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where lower(g.name) like lower(concat('%', :keyword, '%')) order by g.name asc, g.id asc")
+    List<GameSummaryDTO> findSummariesByNameContainingFirst(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where lower(g.name) like lower(concat('%', :keyword, '%')) " +
+           "and (g.name > :name or (g.name = :name and g.id > :id)) order by g.name asc, g.id asc")
+    List<GameSummaryDTO> findSummariesByNameContainingAfter(@Param("keyword") String keyword, @Param("name") String name,
+                                                            @Param("id") Long id, Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end)) from Game g " +
+           "where lower(g.name) like lower(concat('%', :keyword, '%')) " +
+           "and (g.name < :name or (g.name = :name and g.id < :id)) order by g.name desc, g.id desc")
+    List<GameSummaryDTO> findSummariesByNameContainingBefore(@Param("keyword") String keyword, @Param("name") String name,
+                                                             @Param("id") Long id, Pageable pageable);
+
+    @Query("select count(g) from Game g where lower(g.name) like lower(concat('%', :keyword, '%'))")
+    long countByNameContaining(@Param("keyword") String keyword);
+
+    /**
+     * 인기순(보유 회원 수 내림차순, 이름 오름차순) 키셋 조회. idx_game_owner_count_name 인덱스 순서 그대로 읽습니다.
+     * 이름은 유일하므로 (ownerCount, name)만으로 위치가 정해집니다.
+     */
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end), false, g.ownerCount) from Game g " +
+           "order by g.ownerCount desc, g.name asc")
+    List<GameSummaryDTO> findPopularFirst(Pageable pageable);
+
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end), false, g.ownerCount) from Game g " +
+           "where g.ownerCount < :ownerCount or (g.ownerCount = :ownerCount and g.name > :name) " +
+           "order by g.ownerCount desc, g.name asc")
+    List<GameSummaryDTO> findPopularAfter(@Param("ownerCount") int ownerCount, @Param("name") String name, Pageable pageable);
+
+    // 역순으로 읽으므로 호출하는 쪽에서 다시 뒤집어야 함
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end), false, g.ownerCount) from Game g " +
+           "where g.ownerCount > :ownerCount or (g.ownerCount = :ownerCount and g.name < :name) " +
+           "order by g.ownerCount asc, g.name desc")
+    List<GameSummaryDTO> findPopularBefore(@Param("ownerCount") int ownerCount, @Param("name") String name, Pageable pageable);
+
+    // 게임별 보유 회원 수 [gameId, ownerCount] (0 제외, 자동완성 가중치 초기화용)
+    @Query("select g.id, g.ownerCount from Game g where g.ownerCount > 0")
+    List<Object[]> findOwnerCounts();
+
+    // 보유 회원 수 증감 (보유 관계 저장/삭제와 같은 트랜잭션에서 호출, 감소는 아래 decrement 쿼리 사용)
+    @Modifying(flushAutomatically = true)
+    @Query("update Game g set g.ownerCount = g.ownerCount + :delta where g.id = :gameId")
+    int adjustOwnerCount(@Param("gameId") Long gameId, @Param("delta") int delta);
+
+    // 감소는 0 아래로 내려가지 않음 (어긋난 값은 정기 보정이 맞춤)
+    @Modifying(flushAutomatically = true)
+    @Query("update Game g set g.ownerCount = case when g.ownerCount > :count then g.ownerCount - :count else 0 end " +
+           "where g.id = :gameId and g.ownerCount > 0")
+    int decrementOwnerCount(@Param("gameId") Long gameId, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Game g set g.ownerCount = g.ownerCount - 1 where g.id in :gameIds and g.ownerCount > 0")
+    int decrementOwnerCounts(@Param("gameIds") List<Long> gameIds);
+
+    /**
+     * member_game 실제 집계와 다른 owner_count를 바로잡습니다 (변경된 행 수 반환).
+     * 증감은 보유 관계 변경과 같은 트랜잭션이라 정상적으로는 어긋나지 않지만, 직접 수정한 데이터 등을 주기적으로 보정합니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE game g LEFT JOIN (SELECT game_id, COUNT(*) AS cnt FROM member_game GROUP BY game_id) mg " +
+                   "ON mg.game_id = g.game_id " +
+                   "SET g.owner_count = COALESCE(mg.cnt, 0) " +
+                   "WHERE g.owner_count <> COALESCE(mg.cnt, 0)", nativeQuery = true)
+    int reconcileOwnerCounts();
+
+}
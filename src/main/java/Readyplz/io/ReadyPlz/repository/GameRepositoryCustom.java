@@ -0,0 +1,18 @@
+package Readyplz.io.ReadyPlz.repository;
+
+import Readyplz.io.ReadyPlz.domain.Game;
+
+import java.util.List;
+
+/**
+ * GameRepository에 JPA 대신 JDBC로 처리하는 쓰기 경로를 추가하는 확장 인터페이스입니다. (구현: GameRepositoryImpl)
+ */
+public interface GameRepositoryCustom {
+
+    /**
+     * 게임을 다중 행 INSERT로 일괄 저장하고 저장한 행 수를 반환합니다.
+     * IDENTITY 키 전략 때문에 Hibernate가 INSERT를 묶지 못하는 문제를 피하기 위한 임포트 전용 경로이며,
+     * 영속성 컨텍스트를 거치지 않으므로 저장된 Game 객체에 id가 채워지지 않습니다. 호출하는 쪽의 트랜잭션에 참여합니다.
+     */
+    int insertAll(List<Game> games);
+}
@@ -0,0 +1,55 @@
+package Readyplz.io.ReadyPlz.repository;
+
+import Readyplz.io.ReadyPlz.domain.Game;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameRepositoryCustom 구현. Spring Data가 이름 규칙(Impl)으로 찾아 GameRepository에 합쳐 줍니다.
+ */
+@RequiredArgsConstructor
+public class GameRepositoryImpl implements GameRepositoryCustom {
+
+    // 한 INSERT 문에 넣는 최대 행 수 (max_allowed_packet, 바인드 파라미터 수 상한 안쪽으로 유지)
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO game (steam_app_id, name, header_image_url, release_date, content_hash, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<Game> games) {
+        if (games.isEmpty()) {
+            return 0;
+        }
+        // @PrePersist를 거치지 않으므로 생성/수정 시각을 직접 채움 (owner_count는 컬럼 기본값 0)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < games.size(); from += ROWS_PER_STATEMENT) {
+            List<Game> rows = games.subList(from, Math.min(games.size(), from + ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (ROW_PLACEHOLDER.length() + 2))
+                    .append(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(rows.size() * 7);
+            for (int i = 0; i < rows.size(); i++) {
+                Game game = rows.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+                args.add(game.getAppid());
+                args.add(game.getName());
+                args.add(game.getHeaderImageUrl());
+                args.add(game.getReleaseDate() != null ? Date.valueOf(game.getReleaseDate()) : null);
+                args.add(game.getContentHash());
+                args.add(now);
+                args.add(now);
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+}
@@ -11,6 +11,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 
@@ -87,4 +90,18 @@ public interface MemberGameRepository extends JpaRepository<MemberGame, Long> {
     @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameUserSummaryDTO(g.id, m.id, m.username, m.nickname, m.country) " +
            "from MemberGame mg join mg.member m join mg.game g where g.id in :gameIds")
     List<Readyplz.io.ReadyPlz.dto.SummaryDTO.GameUserSummaryDTO> findGameUserSummariesByGameIds(@Param("gameIds") List<Long> gameIds);
-}
\ No newline at end of file
+
+    // 회원이 보유한 게임 id 목록
+    @Query("select mg.game.id from MemberGame mg where mg.member = :member")
+    List<Long> findGameIdsByMember(@Param("member") Member member);
+
+    /**
+     * 컬렉션 화면용: 회원이 보유한 게임을 엔티티 없이 DTO로 조회합니다 (보유 여부는 항상 true).
+     * Member/MemberGame/Game 엔티티를 영속성 컨텍스트에 올리지 않으므로 지연 로딩 조회와 더티 체킹이 없습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO(g.id, g.appid, g.name, g.headerImageUrl, " +
+           "(case when g.releaseDate is not null then year(g.releaseDate) else null end), true) " +
+           "from MemberGame mg join mg.game g join mg.member m where m.username = :username order by g.name")
+    List<Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO> findOwnedGameSummariesByUsername(@Param("username") String username);
+}
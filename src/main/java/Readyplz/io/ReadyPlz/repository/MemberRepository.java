@@ -33,6 +33,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByResetToken(String resetToken);
 
+    // 보안 버전만 조회 (엔티티/권한 로딩 없이 JWT 무효화 여부 확인용)
+    @Query("select m.securityVersion from Member m where m.username = :username")
+    Optional<Long> findSecurityVersionByUsername(@Param("username") String username);
+
     // --- 커스텀 쿼리가 필요한 경우 @Query 어노테이션 사용 예시 ---
     // @Query("SELECT m FROM Member m WHERE m.email = :email")
     // Optional<Member> findByEmailCustomQuery(@Param("email") String email);
@@ -0,0 +1,106 @@
+package Readyplz.io.ReadyPlz.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 실행되는 BCrypt 해시/비교 수를 제한하는 PasswordEncoder입니다.
+ * 해시는 호출한 요청 스레드가 직접 계산하고, 허용 수(threads)만큼만 동시에 돌도록 세마포어로 막아
+ * 로그인 폭주가 있어도 해시 연산이 쓰는 CPU는 이 수로 제한됩니다.
+ * 다른 스레드에 넘기고 결과를 기다리지 않으므로 해시 한 번에 스레드 하나만 쓰며, 기다리는 것은 허용을 받기 전까지뿐입니다.
+ * 대기 중인 요청이 대기열 길이를 넘거나 대기 시간 안에 허용을 받지 못하면 PasswordHashingBusyException(503)으로 실패합니다.
+ * 허용을 받기 전에 실패하므로 503을 받은 요청의 해시가 뒤에서 계속 CPU를 쓰는 일은 없습니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMillis) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(threads, true);
+        this.maxConcurrent = threads;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 강도 확인은 문자열 검사뿐이라 허용을 받지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        if (!permits.tryAcquire()) {
+            // 대기 수는 근삿값이라 동시에 들어온 요청 몇 건은 대기열 길이를 조금 넘을 수 있음
+            if (permits.getQueueLength() >= queueCapacity) {
+                rejected.increment();
+                log.warn("비밀번호 해시 대기열 포화 - 요청 거부 (대기 {}건)", permits.getQueueLength());
+                throw new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            try {
+                if (!permits.tryAcquire(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    timedOut.increment();
+                    throw new PasswordHashingBusyException("비밀번호 처리 대기 시간이 초과되었습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.");
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        queueWaitNanos.add(startedAt - submittedAt);
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+            hashNanos.add(System.nanoTime() - startedAt);
+            completed.increment();
+        }
+    }
+
+    // 대기열 깊이와 해시/대기 평균 시간 (운영 모니터링용)
+    public Map<String, Object> stats() {
+        long done = completed.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", maxConcurrent);
+        stats.put("active", maxConcurrent - permits.availablePermits());
+        stats.put("queueDepth", permits.getQueueLength());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", done);
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("avgHashMs", done == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / done);
+        stats.put("avgQueueWaitMs", done == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / done);
+        return stats;
+    }
+}
@@ -1,7 +1,5 @@
 package Readyplz.io.ReadyPlz.security;
 
-import Readyplz.io.ReadyPlz.util.JwtTokenUtil;
-import Readyplz.io.ReadyPlz.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,10 +8,9 @@ import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,10 +22,14 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
-    private final TokenService tokenService;
+    private final JwtTokenAuthenticator jwtTokenAuthenticator;
+    private final PublicPaths publicPaths;
 
+    // 정적 리소스/헬스체크는 쿠키에 토큰이 있어도 인증 처리(블랙리스트, 사용자 조회)를 하지 않음
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicPaths.bypassesAuthentication(request);
+    }
 
     @Override 
     protected void doFilterInternal( 
@@ -39,7 +40,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String authHeader = request.getHeader("Authorization"); //Request의 Header에서 Authorization 헤더 추출
         String jwt = null;
-        String username = null;
         
         // 디버깅 로그(필요시 활성화)
         // log.debug("=== JWT 인증 필터 디버깅 ===");
@@ -68,57 +68,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response); //현재 필터에서 처리가 끊겨도 다음 필터로 요청 전달
             return;
         }
-        
-        // 블랙리스트 토큰 여부 확인 (로그아웃 등으로 무효화된 토큰)
-        try {
-            if (tokenService.isBlacklisted(jwt)) {
-                // log.warn("블랙리스트 토큰 접근 차단");
-                SecurityContextHolder.clearContext();
-                filterChain.doFilter(request, response);
-                return;
-            }
-        } catch (Exception e) {
-            // log.warn("블랙리스트 확인 중 오류: {}", e.getMessage());
-            SecurityContextHolder.clearContext();
-            filterChain.doFilter(request, response);
-            return;
-        }
 
-        try {
-            username = jwtTokenUtil.extractUsername(jwt);
-            // log.debug("JWT에서 사용자명 추출: {}", username);
-        } catch (Exception e) {
-            // log.warn("JWT 토큰에서 사용자명 추출 실패: {}", e.getMessage());
-            filterChain.doFilter(request, response);
-            return;
-        }
-        // 5. 사용자 인증 처리 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {  
-            try {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username); //사용자 상세 정보 로드
-                // log.debug("사용자 상세 정보 로드: {}", username);
-                
-                if (jwtTokenUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()); //인증 토큰 생성
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request)); 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);  
-                    // log.debug("JWT 인증 성공: {} (권한: {})", username, userDetails.getAuthorities());
-                } else {
-                    // log.warn("JWT 토큰 검증 실패: {}", username);
-                    SecurityContextHolder.clearContext(); //
+        // 4. 사용자 인증 처리 (블랙리스트 확인, 검증 결과 캐시, 서명 검증은 JwtTokenAuthenticator가 담당)
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Authentication authToken = jwtTokenAuthenticator.authenticate(jwt);
+            if (authToken != null) {
+                if (authToken instanceof AbstractAuthenticationToken token) {
+                    token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 }
-            } catch (org.springframework.security.core.userdetails.UsernameNotFoundException e) {
-                // log.warn("JWT 토큰의 사용자가 DB에 존재하지 않음: {}", username);
-                SecurityContextHolder.clearContext();
-            } catch (Exception e) {
-                // log.warn("JWT 인증 처리 중 오류: {}", e.getMessage());
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                // log.debug("JWT 인증 성공: {} (권한: {})", authToken.getName(), authToken.getAuthorities());
+            } else {
+                // log.warn("JWT 토큰 검증 실패");
                 SecurityContextHolder.clearContext();
             }
-        } else if (username != null) {
-            // log.debug("이미 인증된 사용자: {}", username);
         }
         
         // log.debug("=== JWT 인증 필터 완료 ===");
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package Readyplz.io.ReadyPlz.security;
+
+import Readyplz.io.ReadyPlz.service.SecurityVersionService;
+import Readyplz.io.ReadyPlz.service.TokenService;
+import Readyplz.io.ReadyPlz.util.JwtTokenUtil;
+import Readyplz.io.ReadyPlz.util.TokenDigest;
+import Readyplz.io.ReadyPlz.util.VerifiedJwt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 액세스 토큰 문자열로부터 Authentication을 만드는 공통 경로입니다.
+ * 검증 결과 캐시 조회 -> (미스 시) 서명 검증 -> 블랙리스트(jti) 확인 -> 사용자 구성 -> 캐시 저장 순서로 처리합니다.
+ * 블랙리스트 키가 jti이므로 확인은 항상 검증된(또는 캐시된) 클레임을 얻은 뒤에 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtTokenAuthenticator {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final SecurityVersionService securityVersionService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // true이면 sv 클레임이 있는 토큰은 DB 조회 없이 클레임만으로 principal/권한을 구성합니다.
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    /**
+     * 토큰이 유효하면 요청마다 새로 만든 Authentication을, 아니면 null을 반환합니다.
+     * 블랙리스트/서명/만료/보안 버전/사용자 존재 여부 중 하나라도 실패하면 null입니다.
+     */
+    public Authentication authenticate(String jwt) {
+        String digest = TokenDigest.sha256(jwt);
+        VerifiedTokenCache.Entry cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return isBlacklisted(cached.getJwt()) ? null : copyOf(cached.getAuthentication());
+        }
+
+        // 서명 검증은 한 번만 수행하고, 이후 단계는 검증된 클레임만 사용
+        VerifiedJwt verifiedJwt;
+        try {
+            verifiedJwt = jwtTokenUtil.verify(jwt);
+        } catch (Exception e) {
+            // log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
+        if (verifiedJwt.getSubject() == null || isBlacklisted(verifiedJwt)) {
+            return null;
+        }
+
+        try {
+            UserDetails userDetails = resolveUserDetails(verifiedJwt);
+            // userDetails가 null이면 비밀번호 변경/계정 삭제로 보안 버전이 바뀐 토큰
+            if (userDetails == null || !jwtTokenUtil.validateToken(verifiedJwt, userDetails)) {
+                return null;
+            }
+            Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            verifiedTokenCache.put(digest, verifiedJwt, authentication);
+            return copyOf(authentication);
+        } catch (org.springframework.security.core.userdetails.UsernameNotFoundException e) {
+            // log.warn("JWT 토큰의 사용자가 DB에 존재하지 않음: {}", verifiedJwt.getSubject());
+            return null;
+        } catch (Exception e) {
+            // log.warn("JWT 인증 처리 중 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 블랙리스트 토큰 여부 확인 (로그아웃 등으로 무효화된 토큰), 확인 실패 시에도 거부
+    private boolean isBlacklisted(VerifiedJwt verifiedJwt) {
+        try {
+            return tokenService.isBlacklisted(verifiedJwt.getTokenId());
+        } catch (Exception e) {
+            // log.warn("블랙리스트 확인 중 오류: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    // Stateless 모드: 보안 버전이 현재 값과 같을 때만 클레임으로 UserDetails를 구성 (불일치 시 null)
+    // 그 외(모드 비활성, sv 없는 이전 토큰)는 기존처럼 DB에서 로드
+    private UserDetails resolveUserDetails(VerifiedJwt verifiedJwt) {
+        if (!statelessPrincipal || verifiedJwt.getSecurityVersion() == null) {
+            return userDetailsService.loadUserByUsername(verifiedJwt.getSubject()); //사용자 상세 정보 로드
+        }
+        if (!securityVersionService.isCurrent(verifiedJwt.getSubject(), verifiedJwt.getSecurityVersion())) {
+            return null;
+        }
+        List<SimpleGrantedAuthority> authorities = verifiedJwt.getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        return User.withUsername(verifiedJwt.getSubject())
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
+    // 캐시에 있는 Authentication은 여러 스레드가 공유하므로 details 설정 등은 복사본에만 합니다.
+    private Authentication copyOf(Authentication source) {
+        return new UsernamePasswordAuthenticationToken(source.getPrincipal(), null, source.getAuthorities());
+    }
+}
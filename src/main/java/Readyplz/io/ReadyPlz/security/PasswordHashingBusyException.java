@@ -0,0 +1,18 @@
+package Readyplz.io.ReadyPlz.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * BoundedPasswordEncoder가 포화 상태(대기열 가득 참/대기 시간 초과)일 때 발생합니다.
+ * 컨트롤러에서 따로 처리하지 않으면 503으로 응답합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package Readyplz.io.ReadyPlz.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록을 한 곳에서 관리합니다.
+ * - 인증 우회 경로(정적 리소스, 헬스체크): JWT 필터 자체를 건너뛰어 블랙리스트/DB 조회가 일어나지 않습니다.
+ * - 공개 페이지: permitAll이지만 화면에서 로그인 상태를 쓰므로(sec:authorize 등) 토큰은 계속 처리합니다.
+ * SecurityConfig의 permitAll은 두 목록의 합이므로, 우회 경로가 permitAll에서 빠지는 일이 없습니다.
+ * 매처는 기동 시 한 번만 만들어 재사용합니다.
+ */
+@Component
+public class PublicPaths {
+
+    // 토큰 처리가 필요한 공개 페이지/API (로그인, 회원가입, 비밀번호 재설정, 토큰 갱신 등)
+    private static final List<String> PUBLIC_PAGE_PATTERNS = List.of(
+            "/", "/members/register", "/members/loginForm",
+            "/members/reset-request", "/members/reset-password",
+            "/api/auth/**");
+
+    private final List<String> bypassPatterns;
+    private final List<String> permitAllPatterns;
+    private final RequestMatcher bypassMatcher;
+
+    public PublicPaths(@Value("${security.auth-bypass-paths:/css/**,/js/**,/images/**,/static/**,/style.css,/favicon.ico,/health}")
+                       String[] bypassPatterns) {
+        this.bypassPatterns = Arrays.stream(bypassPatterns)
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+
+        List<String> permitAll = new ArrayList<>(PUBLIC_PAGE_PATTERNS);
+        permitAll.addAll(this.bypassPatterns);
+        this.permitAllPatterns = Collections.unmodifiableList(permitAll);
+
+        List<RequestMatcher> matchers = new ArrayList<>(this.bypassPatterns.size());
+        for (String pattern : this.bypassPatterns) {
+            matchers.add(new AntPathRequestMatcher(pattern));
+        }
+        // 우회 경로를 비워 두면 모든 요청이 필터를 거침
+        this.bypassMatcher = matchers.isEmpty() ? null : new OrRequestMatcher(matchers);
+    }
+
+    // JWT 필터를 건너뛸 요청인지 (정적 리소스, 헬스체크)
+    public boolean bypassesAuthentication(HttpServletRequest request) {
+        return bypassMatcher != null && bypassMatcher.matches(request);
+    }
+
+    public String[] permitAllPatterns() {
+        return permitAllPatterns.toArray(String[]::new);
+    }
+
+    public List<String> bypassPatterns() {
+        return bypassPatterns;
+    }
+}
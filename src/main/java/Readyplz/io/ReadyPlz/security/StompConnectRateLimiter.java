@@ -0,0 +1,70 @@
+package Readyplz.io.ReadyPlz.security;
+
+import Readyplz.io.ReadyPlz.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 STOMP CONNECT 토큰 버킷입니다.
+ * 노드 재시작 후 재연결 폭주나 클라이언트 오동작으로 같은 사용자가 CONNECT를 반복할 때 인증 경로 부하를 제한합니다.
+ * 버킷은 일정 시간 사용되지 않으면 캐시에서 만료됩니다(다시 만들어지면 가득 찬 상태로 시작).
+ */
+@Component
+public class StompConnectRateLimiter {
+
+    private final BoundedTtlCache<String, TokenBucket> buckets;
+    private final int burst;
+    private final double refillPerMillis;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public StompConnectRateLimiter(@Value("${websocket.connect.burst:5}") int burst,
+                                   @Value("${websocket.connect.per-minute:30}") int perMinute,
+                                   @Value("${websocket.connect.max-users:100000}") int maxUsers) {
+        this.burst = burst;
+        this.refillPerMillis = perMinute / 60000.0;
+        this.buckets = new BoundedTtlCache<>(maxUsers, 600000L);
+    }
+
+    public boolean tryAcquire(String username) {
+        boolean acquired = buckets.computeIfAbsent(username, key -> new TokenBucket(burst)).tryConsume(burst, refillPerMillis);
+        if (acquired) {
+            allowed.increment();
+        } else {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = buckets.stats();
+        stats.put("allowed", allowed.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefillAt;
+
+        private TokenBucket(int capacity) {
+            this.tokens = capacity;
+            this.lastRefillAt = System.currentTimeMillis();
+        }
+
+        synchronized boolean tryConsume(int capacity, double refillPerMillis) {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMillis);
+            lastRefillAt = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
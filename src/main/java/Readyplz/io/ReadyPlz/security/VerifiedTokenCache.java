@@ -0,0 +1,71 @@
+package Readyplz.io.ReadyPlz.security;
+
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
+import Readyplz.io.ReadyPlz.event.TokenBlacklistedEvent;
+import Readyplz.io.ReadyPlz.util.BoundedTtlCache;
+import Readyplz.io.ReadyPlz.util.VerifiedJwt;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * 토큰 다이제스트(SHA-256) -> 검증된 클레임 + 생성된 Authentication 캐시입니다.
+ * 같은 accessToken 쿠키가 반복해서 들어올 때 HMAC 검증과 사용자 로딩을 건너뜁니다.
+ * 항목 수명은 설정된 최대 TTL과 토큰의 exp 중 짧은 쪽이며, 로그아웃(블랙리스트)과 계정 보안 변경 시 제거됩니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final BoundedTtlCache<String, Entry> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.size:10000}") int maxSize,
+                              @Value("${jwt.verified-cache.ttl-ms:300000}") long maxTtlMillis) {
+        this.cache = new BoundedTtlCache<>(maxSize, maxTtlMillis);
+    }
+
+    public Entry get(String digest) {
+        Entry entry = cache.get(digest);
+        if (entry != null && entry.getJwt().isExpired()) {
+            cache.evict(digest);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String digest, VerifiedJwt jwt, Authentication authentication) {
+        cache.put(digest, new Entry(jwt, authentication), jwt.getRemainingMillis());
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    // 블랙리스트 식별자(jti)가 같은 항목 제거 (조회 시에도 블랙리스트를 확인하므로 메모리 정리 목적)
+    @EventListener
+    public void onTokenBlacklisted(TokenBlacklistedEvent event) {
+        String tokenId = event.getId();
+        cache.evictIf((digest, entry) -> tokenId.equals(entry.getJwt().getTokenId()));
+    }
+
+    // 비밀번호 변경/계정 삭제 시 해당 회원의 캐시된 인증을 모두 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberSecurityChanged(MemberSecurityChangedEvent event) {
+        String username = event.getUsername();
+        cache.evictIf((digest, entry) -> username.equals(entry.getJwt().getSubject()));
+    }
+
+    // Authentication은 공유되므로 꺼내 쓰는 쪽에서 수정하지 않고 복사본을 만들어 사용합니다.
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        private final VerifiedJwt jwt;
+        private final Authentication authentication;
+    }
+}
@@ -1,7 +1,5 @@
 package Readyplz.io.ReadyPlz.security;
 
-import Readyplz.io.ReadyPlz.util.JwtTokenUtil;
-import Readyplz.io.ReadyPlz.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -10,11 +8,8 @@ import org.springframework.lang.NonNull;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -22,37 +17,33 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
-    private final TokenService tokenService;
+    private final JwtTokenAuthenticator jwtTokenAuthenticator;
+    private final StompConnectRateLimiter connectRateLimiter;
 
     @Override
     public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            accessor = StompHeaderAccessor.wrap(message);
+        }
 
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String authHeader = accessor.getFirstNativeHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String jwt = authHeader.substring(7);
-                try {
-                    // 블랙리스트 토큰 거부
-                    if (tokenService.isBlacklisted(jwt)) {
-                        throw new IllegalStateException("Blacklisted token");
-                    }
-
-                    String username = jwtTokenUtil.extractUsername(jwt);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtTokenUtil.validateToken(jwt, userDetails)) {
-                        Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                        accessor.setUser(auth);
-                    } else {
-                        throw new IllegalStateException("Invalid token");
-                    }
-                } catch (Exception e) {
-                    log.warn("WebSocket CONNECT 인증 실패: {}", e.getMessage());
+                // HTTP 필터와 같은 경로(검증 결과 캐시 -> 서명 검증 -> 블랙리스트 -> 사용자 로드)를 사용
+                // 재연결 폭주 시에도 대부분 캐시에서 처리되어 DB를 조회하지 않음
+                Authentication auth = jwtTokenAuthenticator.authenticate(jwt);
+                if (auth == null) {
+                    log.warn("WebSocket CONNECT 인증 실패");
                     throw new IllegalStateException("WebSocket authentication failed");
                 }
+                if (!connectRateLimiter.tryAcquire(auth.getName())) {
+                    log.warn("WebSocket CONNECT 빈도 제한 초과: {}", auth.getName());
+                    throw new IllegalStateException("Too many WebSocket connection attempts");
+                }
+                // 인바운드 채널 스레드는 여러 세션이 공유하므로 SecurityContextHolder에는 기록하지 않고 세션 사용자로만 설정
+                accessor.setUser(auth);
             } else {
                 log.warn("WebSocket CONNECT에 Authorization 헤더가 없습니다.");
                 throw new IllegalStateException("Missing Authorization header");
@@ -62,5 +53,3 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
         return message;
     }
 }
-
-
@@ -0,0 +1,110 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.event.GameOwnershipChangedEvent;
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
+import Readyplz.io.ReadyPlz.util.GameCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게임 카탈로그 화면의 HTTP 조건부 요청(ETag)용 버전 스탬프를 만듭니다.
+ * - 카탈로그 버전: 이 노드가 지금 보여 주는 메모리 카탈로그의 내용 해시 (GameCatalog.contentVersion)
+ *   노드마다 카탈로그를 다시 로드하는 시점이 달라도, 각 노드의 ETag가 그 노드가 실제로 응답하는 내용과 짝지어짐
+ * - 보유 관계 버전: 어떤 회원이든 게임 보유 관계가 바뀔 때 증가 (자동완성의 보유 회원 수, 컬렉션 화면의 내 게임/같은 게임 유저 목록/인기순)
+ * - 회원 정보 버전: 어떤 회원이든 닉네임 등 계정 정보가 바뀔 때 증가 (같은 게임 유저 목록의 닉네임)
+ * 같은 게임을 가진 회원을 찾아 회원마다 버전을 올리는 대신 공용 버전 두 개만 올리므로 변경 한 건의 비용이 보유 회원 수와 무관합니다.
+ * 대신 다른 회원의 변경으로도 내 화면의 ETag가 바뀌어 한 번 다시 렌더링됩니다.
+ * 두 버전은 여러 노드가 같은 값을 보도록 Redis를 사용하며,
+ * Redis를 읽지 못하거나 카탈로그가 아직 로드되지 않았으면 ETag 없이 평소처럼 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService {
+
+    private static final String OWNERSHIP_KEY = "catalog:ownership-version";
+    private static final String MEMBER_KEY = "catalog:member-version";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GameCatalogService gameCatalogService;
+
+    /**
+     * 회원의 컬렉션 화면용 강한 ETag. 같은 브라우저에서 다른 회원으로 로그인한 경우를 구분하도록 사용자명 해시를 포함합니다.
+     * Redis 조회 실패 시 null
+     */
+    public String collectionEtag(String username) {
+        String catalogVersion = catalogVersion();
+        if (catalogVersion == null) {
+            return null;
+        }
+        List<String> versions = read(List.of(OWNERSHIP_KEY, MEMBER_KEY));
+        if (versions == null) {
+            return null;
+        }
+        return "\"c" + catalogVersion + "-o" + versions.get(0) + "-m" + versions.get(1)
+                + "-" + Integer.toHexString(username.hashCode()) + "\"";
+    }
+
+    // 자동완성처럼 회원과 무관한 카탈로그 JSON 응답용 ETag (조회 조건별 구분은 URL로 이루어짐). Redis 조회 실패 시 null
+    public String catalogEtag() {
+        String catalogVersion = catalogVersion();
+        if (catalogVersion == null) {
+            return null;
+        }
+        List<String> versions = read(List.of(OWNERSHIP_KEY));
+        if (versions == null) {
+            return null;
+        }
+        return "\"c" + catalogVersion + "-o" + versions.get(0) + "\"";
+    }
+
+    // 카탈로그가 아직 없으면(로드 전/실패, DB 조회로 응답) null
+    private String catalogVersion() {
+        GameCatalog catalog = gameCatalogService.current();
+        return catalog != null ? catalog.contentVersion() : null;
+    }
+
+    // 보유 관계 변경 (계정 삭제처럼 여러 게임이 한 번에 바뀌어도 이벤트 하나로 한 번만 증가)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(GameOwnershipChangedEvent event) {
+        increment(OWNERSHIP_KEY);
+    }
+
+    // 닉네임 변경 등 계정 정보 변경: 내 닉네임이 다른 회원의 "같은 게임 유저" 목록에 보임
+    // 다른 노드에서 전달된 이벤트는 원래 노드에서 이미 Redis에 반영했으므로 무시
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberSecurityChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        increment(MEMBER_KEY);
+    }
+
+    private void increment(String key) {
+        try {
+            redisTemplate.opsForValue().increment(key);
+        } catch (Exception e) {
+            log.warn("카탈로그 버전 갱신 실패({}): {}", key, e.getMessage());
+        }
+    }
+
+    // 없는 키는 0으로 취급
+    private List<String> read(List<String> keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null || values.size() != keys.size()) {
+                return null;
+            }
+            return values.stream().map(v -> v == null ? "0" : v).toList();
+        } catch (Exception e) {
+            log.warn("카탈로그 버전 조회 실패 - ETag 생략: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,28 +1,50 @@
 package Readyplz.io.ReadyPlz.service;
 
 import Readyplz.io.ReadyPlz.domain.Member;
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
 import Readyplz.io.ReadyPlz.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import Readyplz.io.ReadyPlz.util.BoundedTtlCache;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 //Spring Security 인증 관련
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
 
+    // username -> (비밀번호 해시, 권한) 캐시. 역할 조회 join fetch가 요청마다 MySQL로 가지 않도록 합니다.
+    private final BoundedTtlCache<String, CachedUser> userCache;
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    @Value("${security.user-cache.size:10000}") int cacheSize,
+                                    @Value("${security.user-cache.ttl-ms:300000}") long cacheTtlMillis) {
+        this.memberRepository = memberRepository;
+        this.userCache = new BoundedTtlCache<>(cacheSize, cacheTtlMillis);
+    }
+
     @Override 
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUser cached = userCache.get(username);
+        if (cached != null) {
+            return cached.toUserDetails();
+        }
+
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> {
                     log.warn("사용자를 찾을 수 없습니다: {}", username);
@@ -30,14 +52,43 @@ public class CustomUserDetailsService implements UserDetailsService {
                 });
 
         // Member의 roles를 Spring Security의 GrantedAuthority로 변환
-        var authorities = member.getRoles().stream() 
+        List<GrantedAuthority> authorities = member.getRoles().stream() 
                 .map(role -> new SimpleGrantedAuthority(role.getName())) 
                 .collect(Collectors.toList()); 
 
-        return User.builder() 
-                .username(member.getUsername()) 
-                .password(member.getPassword()) 
-                .authorities(authorities) 
-                .build(); 
+        cached = new CachedUser(member.getUsername(), member.getPassword(), List.copyOf(authorities));
+        userCache.put(username, cached);
+        return cached.toUserDetails();
+    }
+
+    public void evict(String username) {
+        userCache.evict(username);
+    }
+
+    public Map<String, Object> stats() {
+        return userCache.stats();
+    }
+
+    // 비밀번호/닉네임 변경, 계정 삭제, 권한 변경 시 (다른 노드에서 전달된 이벤트 포함) 해당 회원만 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberSecurityChanged(MemberSecurityChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    // 캐시에는 불변 스냅샷만 두고 조회 때마다 새 User를 만듭니다.
+    // (인증 후 eraseCredentials()가 User의 비밀번호를 지우므로 같은 인스턴스를 공유하면 안 됨)
+    @AllArgsConstructor
+    private static final class CachedUser {
+        private final String username;
+        private final String password;
+        private final List<GrantedAuthority> authorities;
+
+        private UserDetails toUserDetails() {
+            return User.builder() 
+                    .username(username) 
+                    .password(password) 
+                    .authorities(authorities) 
+                    .build(); 
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.event.GameCatalogChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 게임 카탈로그 변경 이벤트를 Redis Pub/Sub으로 다른 노드에 전파하고, 받은 이벤트를 로컬 이벤트로 다시 발행합니다.
+ * 임포트는 한 노드에서만 실행되므로, 나머지 노드도 메모리 게임 카탈로그(목록, 검색, 자동완성)를 DB에서 다시 로드하도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameCatalogChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "catalog:changed";
+
+    // 자기 자신이 보낸 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener
+    public void onCatalogChanged(GameCatalogChangedEvent event) {
+        if (event.isRemote() || event.getChangedCount() <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + " " + event.getChangedCount());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 다음 변경이나 재기동 때 반영
+            log.warn("게임 카탈로그 변경 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(' ');
+        if (sep <= 0 || body.substring(0, sep).equals(nodeId)) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new GameCatalogChangedEvent(Integer.parseInt(body.substring(sep + 1)), true));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게임 카탈로그 변경 메시지: {}", body);
+        }
+    }
+}
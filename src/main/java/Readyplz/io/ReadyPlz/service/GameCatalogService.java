@@ -0,0 +1,218 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
+import Readyplz.io.ReadyPlz.event.GameCatalogChangedEvent;
+import Readyplz.io.ReadyPlz.repository.GameRepository;
+import Readyplz.io.ReadyPlz.util.GameCatalog;
+import Readyplz.io.ReadyPlz.util.GameCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 메모리 게임 카탈로그(GameCatalog)의 현재 스냅샷을 보관합니다.
+ * 기동 시 한 번 DB에서 읽어 만들고, JSON 임포트로 게임이 추가되면 새 스냅샷을 만들어 참조만 교체합니다.
+ * 임포트를 실행하지 않은 노드도 Redis로 전달받은 변경 이벤트(GameCatalogChangeBroadcaster)로 다시 로드합니다.
+ * 교체 중에도 읽는 쪽은 이전 스냅샷을 그대로 사용하므로 잠금이 필요 없습니다.
+ * 관리자가 바이너리 스냅샷 파일(GameCatalogSnapshot)을 만들어 두면 기동 시 DB 대신 파일을 메모리 매핑해 바로 사용하고,
+ * DB와 같은지 확인과 이름 검색 색인 빌드는 백그라운드에서 합니다. 파일이 있으면 DB에서 다시 로드할 때마다 함께 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameCatalogService {
+
+    private final GameRepository gameRepository;
+
+    // 바이너리 스냅샷 파일 경로 (빈 값이면 스냅샷 사용 안 함)
+    @Value("${game.catalog.snapshot-path:data/game-catalog.snapshot}")
+    private String snapshotPath;
+
+    // 로드 전이거나 로드 실패 시 null -> 호출하는 쪽에서 DB 조회로 대체
+    private volatile GameCatalog catalog;
+    private volatile long loadedAt;
+    private volatile long loadMillis;
+    // 현재 카탈로그를 어디서 읽었는지 (database, snapshot)
+    private volatile String source = "none";
+    private volatile String snapshotFingerprint;
+    // 현재 카탈로그를 만들 때의 DB 지문 (모르면 null)
+    private volatile String catalogFingerprint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!openSnapshot()) {
+            reload();
+            return;
+        }
+        // 스냅샷이 DB와 같은지 확인하고 검색 색인을 채우는 작업은 첫 요청을 막지 않도록 백그라운드에서
+        Thread warmer = new Thread(this::verifySnapshotAndWarm, "game-catalog-warmup");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    @EventListener
+    public void onCatalogChanged(GameCatalogChangedEvent event) {
+        if (event.getChangedCount() <= 0) {
+            return;
+        }
+        if (!event.isRemote()) {
+            reload();
+            return;
+        }
+        // 다른 노드의 임포트: Redis 리스너 스레드를 로드 시간 동안 붙잡지 않도록 백그라운드에서
+        Thread reloader = new Thread(this::reload, "game-catalog-reload");
+        reloader.setDaemon(true);
+        reloader.start();
+    }
+
+    // 동시에 여러 번 요청되어도 한 번에 하나만 빌드
+    public synchronized void reload() {
+        try {
+            rebuild(false);
+        } catch (Exception e) {
+            // 기존 스냅샷이 있으면 계속 사용, 없으면 DB 조회로 동작
+            log.warn("게임 카탈로그 로드 실패 - 기존 상태 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 카탈로그를 다시 만들고 바이너리 스냅샷 파일로 저장합니다 (관리자 요청).
+     * 이후로는 DB에서 다시 로드할 때마다 파일도 갱신되고, 다음 기동부터 파일을 매핑해 사용합니다.
+     * DB 지문이 현재 카탈로그를 만들 때와 같으면 다시 로드하지 않고 현재 카탈로그를 그대로 파일로 저장합니다.
+     */
+    public synchronized Map<String, Object> writeSnapshot() throws IOException {
+        Path file = snapshotFile();
+        if (file == null) {
+            throw new IllegalStateException("game.catalog.snapshot-path가 설정되지 않았습니다.");
+        }
+        GameCatalog current = catalog;
+        String fingerprint = currentFingerprint();
+        if (current != null && fingerprint.equals(catalogFingerprint)) {
+            saveSnapshot(current, fingerprint, file);
+        } else {
+            rebuild(true);
+        }
+        return stats();
+    }
+
+    private void rebuild(boolean forceSnapshot) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Path file = snapshotFile();
+        boolean writeSnapshot = file != null && (forceSnapshot || Files.isRegularFile(file));
+        // 행을 읽기 전에 지문을 떠야, 그사이 바뀐 내용이 있으면 지문이 달라 다음 기동/스냅샷 저장 때 DB에서 다시 로드됨
+        String fingerprint = currentFingerprint();
+
+        List<GameSummaryDTO> rows = gameRepository.findAllSummaries();
+        // 이전 스냅샷이 있으면 검색 색인은 증분 확장
+        GameCatalog next = GameCatalog.of(rows, catalog);
+        // ETag용 내용 해시는 교체 전에 계산해 두어 첫 요청이 기다리지 않게 함
+        next.contentVersion();
+        catalog = next;
+        catalogFingerprint = fingerprint;
+        source = "database";
+        loadedAt = System.currentTimeMillis();
+        loadMillis = loadedAt - startedAt;
+        log.info("게임 카탈로그 로드 완료: {}개, {}ms, 약 {}KB", next.size(), loadMillis, next.estimatedBytes() / 1024);
+
+        if (writeSnapshot) {
+            try {
+                saveSnapshot(next, fingerprint, file);
+            } catch (IOException e) {
+                if (forceSnapshot) {
+                    throw e;
+                }
+                log.warn("게임 카탈로그 스냅샷 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void saveSnapshot(GameCatalog snapshotCatalog, String fingerprint, Path file) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long bytes = GameCatalogSnapshot.write(snapshotCatalog, fingerprint, file);
+        snapshotFingerprint = fingerprint;
+        log.info("게임 카탈로그 스냅샷 저장: {}, {}KB, {}ms", file, bytes / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    // 스냅샷 파일이 있으면 매핑해 현재 카탈로그로 사용. 파일이 없거나 읽을 수 없으면 false
+    private boolean openSnapshot() {
+        Path file = snapshotFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            return false;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            GameCatalogSnapshot snapshot = GameCatalogSnapshot.map(file);
+            catalog = snapshot.getCatalog();
+            snapshotFingerprint = snapshot.getFingerprint();
+            catalogFingerprint = snapshotFingerprint;
+            source = "snapshot";
+            loadedAt = System.currentTimeMillis();
+            loadMillis = loadedAt - startedAt;
+            log.info("게임 카탈로그 스냅샷 매핑: {}개, {}ms, {}KB", catalog.size(), loadMillis, snapshot.getFileBytes() / 1024);
+            return true;
+        } catch (IOException e) {
+            log.warn("게임 카탈로그 스냅샷을 열 수 없어 DB에서 로드합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void verifySnapshotAndWarm() {
+        try {
+            GameCatalog mapped = catalog;
+            if (!Objects.equals(snapshotFingerprint, currentFingerprint())) {
+                log.info("게임 카탈로그 스냅샷이 DB와 달라 DB에서 다시 로드합니다.");
+                reload();
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            mapped.warmNameIndex();
+            mapped.contentVersion();
+            log.info("게임 이름 검색 색인 준비: {}ms", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("게임 카탈로그 스냅샷 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    // DB 게임 테이블 요약 "게임 수:최대 id:최대 수정 시각"
+    private String currentFingerprint() {
+        Object[] row = gameRepository.findCatalogFingerprint().get(0);
+        return row[0] + ":" + row[1] + ":" + row[2];
+    }
+
+    private Path snapshotFile() {
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    public GameCatalog current() {
+        return catalog;
+    }
+
+    public Map<String, Object> stats() {
+        GameCatalog snapshot = catalog;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("loaded", snapshot != null);
+        stats.put("size", snapshot != null ? snapshot.size() : 0);
+        stats.put("estimatedBytes", snapshot != null ? snapshot.estimatedBytes() : 0L);
+        stats.put("trigrams", snapshot != null ? snapshot.trigramCount() : 0);
+        stats.put("loadedAt", loadedAt);
+        stats.put("loadMillis", loadMillis);
+        stats.put("source", source);
+        stats.put("mapped", snapshot != null && snapshot.isMapped());
+        stats.put("nameIndexReady", snapshot != null && snapshot.isNameIndexReady());
+        stats.put("snapshotPath", snapshotPath);
+        stats.put("snapshotFingerprint", snapshotFingerprint);
+        stats.put("contentVersion", snapshot != null ? snapshot.contentVersion() : null);
+        return stats;
+    }
+}
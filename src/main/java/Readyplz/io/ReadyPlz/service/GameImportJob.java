@@ -0,0 +1,164 @@
+package Readyplz.io.ReadyPlz.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 백그라운드로 실행되는 게임 JSON 임포트 작업 한 건의 상태와 단계별 카운터입니다.
+ * busy는 실제 처리 시간, blocked는 다음 단계 대기열이 가득 차 기다린 시간입니다.
+ */
+final class GameImportJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private final String id;
+    // 델타 동기화 모드: 바뀐 게임은 수정, 내용이 같은 게임은 건너뜀 (아니면 새 게임만 추가)
+    private final boolean delta;
+    private final long createdAt = System.currentTimeMillis();
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile String error;
+    // 체크포인트에서 이어 받은 경우 건너뛴 앞부분 행 수
+    private volatile long resumedFromRow;
+    private final AtomicBoolean cancelRequested = new AtomicBoolean(false);
+
+    final LongAdder read = new LongAdder();
+    final LongAdder readBlockedNanos = new LongAdder();
+
+    final LongAdder normalized = new LongAdder();
+    final LongAdder invalid = new LongAdder();
+    final LongAdder duplicateInFile = new LongAdder();
+    final LongAdder unchanged = new LongAdder();
+    final LongAdder normalizeBusyNanos = new LongAdder();
+    final LongAdder normalizeBlockedNanos = new LongAdder();
+
+    final LongAdder writeProcessed = new LongAdder();
+    final LongAdder written = new LongAdder();
+    final LongAdder updated = new LongAdder();
+    final LongAdder skippedExisting = new LongAdder();
+    final LongAdder failedChunks = new LongAdder();
+    // 이름 해시가 기존 게임과 겹쳐 DB로 확인한 건수, 그중 실제로는 다른 이름이었던(해시 충돌) 건수
+    final LongAdder nameHashChecks = new LongAdder();
+    final LongAdder nameHashCollisions = new LongAdder();
+
+    // 실행 시작 시 메모리로 읽은 기존 게임 키 (새 게임만 추가하는 모드)
+    private volatile Map<String, Object> dedupe;
+    final LongAdder writeBusyNanos = new LongAdder();
+
+    GameImportJob(String id, boolean delta) {
+        this.id = id;
+        this.delta = delta;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    boolean isDelta() {
+        return delta;
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    void start() {
+        startedAt = System.currentTimeMillis();
+        status = Status.RUNNING;
+    }
+
+    void dedupeLoaded(int appIds, int nameHashes, long bytes, long loadMillis) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("existingAppIds", appIds);
+        summary.put("existingNameHashes", nameHashes);
+        summary.put("memoryBytes", bytes);
+        summary.put("loadMs", loadMillis);
+        dedupe = summary;
+    }
+
+    void resumedFrom(long row) {
+        resumedFromRow = row;
+    }
+
+    // 이미 끝난 작업이면 false
+    boolean requestCancel() {
+        if (isFinished()) {
+            return false;
+        }
+        cancelRequested.set(true);
+        return true;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested.get();
+    }
+
+    void finish(Status finalStatus, String errorMessage) {
+        error = errorMessage;
+        finishedAt = System.currentTimeMillis();
+        status = finalStatus;
+    }
+
+    Map<String, Object> toMap() {
+        long begin = startedAt > 0 ? startedAt : createdAt;
+        long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        long elapsedMillis = Math.max(1L, end - begin);
+
+        Map<String, Object> readStage = new LinkedHashMap<>();
+        readStage.put("items", read.sum());
+        readStage.put("itemsPerSec", read.sum() * 1000 / elapsedMillis);
+        readStage.put("blockedMs", readBlockedNanos.sum() / 1_000_000);
+
+        Map<String, Object> normalizeStage = new LinkedHashMap<>();
+        normalizeStage.put("items", normalized.sum());
+        normalizeStage.put("itemsPerSec", normalized.sum() * 1000 / elapsedMillis);
+        normalizeStage.put("busyMs", normalizeBusyNanos.sum() / 1_000_000);
+        normalizeStage.put("blockedMs", normalizeBlockedNanos.sum() / 1_000_000);
+
+        Map<String, Object> writeStage = new LinkedHashMap<>();
+        writeStage.put("items", writeProcessed.sum());
+        writeStage.put("itemsPerSec", writeProcessed.sum() * 1000 / elapsedMillis);
+        writeStage.put("failedChunks", failedChunks.sum());
+        writeStage.put("busyMs", writeBusyNanos.sum() / 1_000_000);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobId", id);
+        body.put("status", status.name());
+        body.put("mode", delta ? "delta" : "insert");
+        body.put("createdAt", createdAt);
+        body.put("startedAt", startedAt > 0 ? startedAt : null);
+        body.put("finishedAt", finishedAt > 0 ? finishedAt : null);
+        body.put("elapsedMs", startedAt > 0 ? elapsedMillis : 0);
+        body.put("resumedFromRow", resumedFromRow);
+        body.put("parsed", read.sum());
+        body.put("saved", written.sum());
+        body.put("updated", updated.sum());
+        body.put("unchanged", unchanged.sum());
+        body.put("skipped", duplicateInFile.sum() + skippedExisting.sum());
+        body.put("skippedDuplicateInFile", duplicateInFile.sum());
+        body.put("skippedExisting", skippedExisting.sum());
+        body.put("invalid", invalid.sum());
+        body.put("rowsPerSec", startedAt > 0 ? read.sum() * 1000 / elapsedMillis : 0);
+        body.put("error", error);
+        Map<String, Object> dedupeSummary = dedupe;
+        if (dedupeSummary != null) {
+            Map<String, Object> dedupeBody = new LinkedHashMap<>(dedupeSummary);
+            dedupeBody.put("nameHashChecks", nameHashChecks.sum());
+            dedupeBody.put("nameHashCollisions", nameHashCollisions.sum());
+            body.put("dedupe", dedupeBody);
+        }
+        Map<String, Object> stages = new LinkedHashMap<>();
+        stages.put("read", readStage);
+        stages.put("normalize", normalizeStage);
+        stages.put("write", writeStage);
+        body.put("stages", stages);
+        return body;
+    }
+}
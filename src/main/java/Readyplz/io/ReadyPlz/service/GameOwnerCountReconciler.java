@@ -0,0 +1,57 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * game.owner_count(비정규화된 보유 회원 수)를 member_game 실제 집계와 주기적으로 맞춥니다.
+ * 평소에는 보유 관계 저장/삭제와 같은 트랜잭션에서 증감되므로 고칠 행이 없어야 하며, 보정된 행이 있으면 경고로 남깁니다.
+ * 테이블 전체를 훑는 UPDATE라 Redis 잠금을 잡은 노드 한 곳에서만 실행하고, 기동 시에는 실행하지 않습니다.
+ * 컬럼을 처음 추가한 직후(전부 0)처럼 바로 맞춰야 하면 관리자 API(POST /admin/games/owner-counts/reconcile)로 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameOwnerCountReconciler {
+
+    private static final String LOCK_KEY = "game:owner-count:reconcile-lock";
+    // 보정 쿼리가 이보다 오래 걸리면 다른 노드가 잠금을 잡을 수 있지만, 같은 값으로 맞추는 작업이라 결과는 같음
+    private static final long LOCK_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private final GameRepository gameRepository;
+    private final RedisLockService redisLockService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(fixedDelayString = "${game.owner-count.reconcile-ms:3600000}",
+            initialDelayString = "${game.owner-count.reconcile-initial-delay-ms:${game.owner-count.reconcile-ms:3600000}}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    // 보정한 행 수. 다른 노드에서 실행 중이라 건너뛰면 -1
+    public int reconcile() {
+        String token = redisLockService.tryAcquire(LOCK_KEY, LOCK_TTL_MILLIS);
+        if (token == null) {
+            log.debug("게임 보유 회원 수 보정 건너뜀 - 다른 노드에서 실행 중");
+            return -1;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Integer fixed = new TransactionTemplate(transactionManager).execute(status -> gameRepository.reconcileOwnerCounts());
+            int count = fixed != null ? fixed : 0;
+            if (count > 0) {
+                log.warn("게임 보유 회원 수 보정: {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+            } else {
+                log.debug("게임 보유 회원 수 보정 대상 없음 ({}ms)", System.currentTimeMillis() - startedAt);
+            }
+            return count;
+        } finally {
+            redisLockService.release(LOCK_KEY, token);
+        }
+    }
+}
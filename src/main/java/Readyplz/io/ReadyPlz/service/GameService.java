@@ -1,13 +1,32 @@
 package Readyplz.io.ReadyPlz.service;
 
 import Readyplz.io.ReadyPlz.domain.Game;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameCursorPageDTO;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSearchPageDTO;
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
 import Readyplz.io.ReadyPlz.repository.GameRepository;
+import Readyplz.io.ReadyPlz.util.BoundedTtlCache;
+import Readyplz.io.ReadyPlz.util.GameCatalog;
+import Readyplz.io.ReadyPlz.util.GameCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -15,19 +34,189 @@ import org.springframework.data.domain.Pageable;
 public class GameService {
 
     private final GameRepository gameRepository;
+    private final GameCatalogService gameCatalogService;
+
+    // DB 키셋 조회 시 전체 개수는 매 페이지 COUNT 대신 짧게 캐시 (키: "" = 전체, 그 외 = 검색어)
+    private final BoundedTtlCache<String, Long> totalCountCache = new BoundedTtlCache<>(1000, 60000L);
+
+    // 오타 허용 검색: 최소 유사도(Dice 계수)와 요청당 시간 예산
+    @Value("${game.search.fuzzy.min-similarity:0.35}")
+    private double fuzzyMinSimilarity;
+
+    @Value("${game.search.fuzzy.budget-ms:20}")
+    private long fuzzyBudgetMillis;
 
     public Game findById(Long id) {
         return gameRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게임을 찾을 수 없습니다."));
     }
 
-    public Page<Game> findAll(Pageable pageable) {
-        return gameRepository.findAll(pageable);
+    // 전체 게임 목록(이름 순): 메모리 카탈로그에서 바로 잘라서 반환, 카탈로그가 없거나 다른 정렬이면 DB 조회
+    public Page<GameSummaryDTO> findAll(Pageable pageable) {
+        GameCatalog catalog = gameCatalogService.current();
+        if (catalog != null && isNameAscending(pageable.getSort())) {
+            return new PageImpl<>(catalog.slice(pageable.getOffset(), pageable.getPageSize()), pageable, catalog.size());
+        }
+        return gameRepository.findSummaries(pageable);
     }
 
-    public Page<Game> findByName(String nameKeyword, Pageable pageable) {
-        return gameRepository.findByNameContainingIgnoreCase(nameKeyword, pageable);
+    // 이름 부분 검색(대소문자 무시, 이름 순): 카탈로그의 트라이그램 색인으로 처리해 LIKE '%x%' 전체 스캔과 COUNT 쿼리를 피함
+    // 부분 일치가 없으면(오타 등) 유사한 이름을 유사도 순으로 한 페이지만 반환하고 fuzzy로 표시
+    public GameSearchPageDTO findByName(String nameKeyword, Pageable pageable) {
+        GameCatalog catalog = gameCatalogService.current();
+        if (catalog != null && isNameAscending(pageable.getSort())) {
+            int[] ranks = catalog.searchByName(nameKeyword);
+            boolean fuzzy = false;
+            if (ranks.length == 0 && pageable.getOffset() == 0) {
+                ranks = catalog.fuzzySearchByName(nameKeyword, pageable.getPageSize(), fuzzyMinSimilarity, fuzzyBudgetMillis * 1_000_000L);
+                fuzzy = ranks.length > 0;
+            }
+            return new GameSearchPageDTO(
+                    new PageImpl<>(catalog.slice(ranks, pageable.getOffset(), pageable.getPageSize()), pageable, ranks.length), fuzzy);
+        }
+        return new GameSearchPageDTO(gameRepository.findSummariesByNameContaining(nameKeyword, pageable), false);
     }
-}
 
+    /**
+     * 키셋 페이지네이션: after 커서 다음 size개, before 커서 이전 size개 (둘 다 없으면 첫 페이지).
+     * keyword가 비어 있으면 전체 목록, 있으면 이름 부분 검색 결과가 대상입니다.
+     * 카탈로그가 있으면 rank 배열에서 이진 탐색으로 위치를 찾고, 없으면 (name, id) 조건의 DB 조회를 사용합니다.
+     */
+    public GameCursorPageDTO findPageByCursor(String keyword, GameCursor after, GameCursor before, int size) {
+        boolean search = keyword != null && !keyword.isBlank();
+        GameCatalog catalog = gameCatalogService.current();
+        if (catalog != null) {
+            int[] ranks = search ? catalog.searchByName(keyword) : null;
+            return cursorPageFromCatalog(catalog, ranks, after, before, size);
+        }
+        return cursorPageFromDb(search ? keyword : null, after, before, size);
+    }
+
+    // ranks가 null이면 카탈로그 전체(위치 = rank)
+    private GameCursorPageDTO cursorPageFromCatalog(GameCatalog catalog, int[] ranks, GameCursor after, GameCursor before, int size) {
+        int total = ranks == null ? catalog.size() : ranks.length;
+        int from;
+        int to;
+        if (after != null) {
+            from = positionOf(ranks, catalog.seek(after.getName(), after.getId(), true));
+            to = Math.min(total, from + size);
+        } else if (before != null) {
+            to = positionOf(ranks, catalog.seek(before.getName(), before.getId(), false));
+            from = Math.max(0, to - size);
+        } else {
+            from = 0;
+            to = Math.min(total, size);
+        }
+
+        List<GameSummaryDTO> content = new ArrayList<>(Math.max(0, to - from));
+        for (int position = from; position < to; position++) {
+            content.add(catalog.summaryAt(ranks == null ? position : ranks[position]));
+        }
+        String prevCursor = from > 0 && from < to ? catalog.cursorAt(ranks == null ? from : ranks[from]).encode() : null;
+        String nextCursor = to < total && from < to ? catalog.cursorAt(ranks == null ? to - 1 : ranks[to - 1]).encode() : null;
+        return new GameCursorPageDTO(content, prevCursor, nextCursor, total, size > 0 ? from / size : 0);
+    }
+
+    // rank 이상인 첫 위치 (검색 결과 rank 배열은 오름차순)
+    private int positionOf(int[] ranks, int rank) {
+        if (ranks == null) {
+            return rank;
+        }
+        int index = Arrays.binarySearch(ranks, rank);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // 한 개 더 읽어서 해당 방향에 다음 페이지가 있는지 판단
+    private GameCursorPageDTO cursorPageFromDb(String keyword, GameCursor after, GameCursor before, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<GameSummaryDTO> rows;
+        if (after != null) {
+            rows = keyword == null
+                    ? gameRepository.findSummariesAfter(after.getName(), after.getId(), limit)
+                    : gameRepository.findSummariesByNameContainingAfter(keyword, after.getName(), after.getId(), limit);
+        } else if (before != null) {
+            List<GameSummaryDTO> descending = keyword == null
+                    ? gameRepository.findSummariesBefore(before.getName(), before.getId(), limit)
+                    : gameRepository.findSummariesByNameContainingBefore(keyword, before.getName(), before.getId(), limit);
+            rows = new ArrayList<GameSummaryDTO>(descending);
+        } else {
+            rows = keyword == null
+                    ? gameRepository.findSummariesFirst(limit)
+                    : gameRepository.findSummariesByNameContainingFirst(keyword, limit);
+        }
+
+        return toCursorPage(rows, after != null, before != null, size, cachedTotal(keyword), GameService::cursorOf);
+    }
+
+    /**
+     * 인기순(보유 회원 수 내림차순, 이름 순) 키셋 페이지. (owner_count, name) 인덱스 순서로 읽으므로 이름 순과 같은 비용입니다.
+     * 보유 수는 계속 바뀌므로 페이지를 넘기는 사이 순위가 바뀐 게임은 중복되거나 빠질 수 있습니다.
+     */
+    public GameCursorPageDTO findPopularPage(GameCursor after, GameCursor before, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        GameCursor validAfter = after != null && after.isPopular() ? after : null;
+        GameCursor validBefore = validAfter == null && before != null && before.isPopular() ? before : null;
+        List<GameSummaryDTO> rows;
+        if (validAfter != null) {
+            rows = gameRepository.findPopularAfter(validAfter.getOwnerCount(), validAfter.getName(), limit);
+        } else if (validBefore != null) {
+            List<GameSummaryDTO> ascending = gameRepository.findPopularBefore(validBefore.getOwnerCount(), validBefore.getName(), limit);
+            rows = new ArrayList<GameSummaryDTO>(ascending);
+        } else {
+            rows = gameRepository.findPopularFirst(limit);
+        }
+        return toCursorPage(rows, validAfter != null, validBefore != null, size, cachedTotal(null),
+                game -> GameCursor.popular(game.getId(), game.getName(), game.getOwnerCount()));
+    }
+
+    // size+1개 읽은 결과로 페이지와 이전/다음 커서 구성 (before 방향은 역순으로 읽었으므로 뒤집음)
+    private GameCursorPageDTO toCursorPage(List<GameSummaryDTO> rows, boolean after, boolean before, int size, long total,
+                                           Function<GameSummaryDTO, GameCursor> cursorOf) {
+        boolean more = rows.size() > size;
+        List<GameSummaryDTO> content = new ArrayList<>(more ? rows.subList(0, size) : rows);
+        if (before) {
+            Collections.reverse(content);
+        }
+        boolean hasPrev = before ? more : after;
+        boolean hasNext = before || more;
+        String prevCursor = hasPrev && !content.isEmpty() ? cursorOf.apply(content.get(0)).encode() : null;
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new GameCursorPageDTO(content, prevCursor, nextCursor, total, !after && !before ? 0 : null);
+    }
+
+    private long cachedTotal(String keyword) {
+        String key = keyword == null ? "" : keyword.toLowerCase(Locale.ROOT);
+        Long total = totalCountCache.get(key);
+        if (total == null) {
+            total = keyword == null ? gameRepository.count() : gameRepository.countByNameContaining(keyword);
+            totalCountCache.put(key, total);
+        }
+        return total;
+    }
 
+    private static GameCursor cursorOf(GameSummaryDTO game) {
+        return new GameCursor(game.getId(), game.getName());
+    }
+
+    // 엔티티가 필요 없는 화면용 단건 조회 (카탈로그 우선)
+    public Optional<GameSummaryDTO> findSummaryById(Long id) {
+        GameCatalog catalog = gameCatalogService.current();
+        if (catalog != null) {
+            int rank = catalog.rankOfId(id);
+            if (rank >= 0) {
+                return Optional.of(catalog.summaryAt(rank));
+            }
+        }
+        return gameRepository.findSummaryById(id);
+    }
+
+    // 카탈로그는 이름 오름차순으로만 정렬되어 있음
+    private boolean isNameAscending(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Iterator<Sort.Order> orders = sort.iterator();
+        Sort.Order first = orders.next();
+        return !orders.hasNext() && "name".equals(first.getProperty()) && first.isAscending();
+    }
+}
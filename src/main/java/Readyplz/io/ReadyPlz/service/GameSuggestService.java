@@ -0,0 +1,111 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSuggestionDTO;
+import Readyplz.io.ReadyPlz.event.GameOwnershipChangedEvent;
+import Readyplz.io.ReadyPlz.repository.GameRepository;
+import Readyplz.io.ReadyPlz.util.GameCatalog;
+import Readyplz.io.ReadyPlz.util.GameSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 이름 자동완성(/games/suggest)을 제공합니다.
+ * 현재 게임 카탈로그 스냅샷으로 GameSuggestIndex를 만들고, 카탈로그가 교체되면 다음 요청에서 다시 만듭니다.
+ * 보유 회원 수 가중치는 빌드 시 game.owner_count로 초기화하고 이후에는 보유 관계 변경 이벤트로 갱신합니다.
+ * 이벤트는 이 노드에서 커밋된 변경만 오므로, 다른 노드의 변경까지 반영하도록 주기적으로 game.owner_count를 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSuggestService {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final GameCatalogService gameCatalogService;
+    private final GameRepository gameRepository;
+
+    private volatile Snapshot snapshot;
+
+    public List<GameSuggestionDTO> suggest(String query, int limit) {
+        Snapshot current = currentSnapshot();
+        if (current == null || query == null || query.isBlank()) {
+            return List.of();
+        }
+        int[] ranks = current.index.topK(query, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        List<GameSuggestionDTO> suggestions = new ArrayList<>(ranks.length);
+        for (int rank : ranks) {
+            suggestions.add(new GameSuggestionDTO(current.catalog.idAt(rank), current.catalog.nameAt(rank),
+                    current.index.weightOf(rank)));
+        }
+        return suggestions;
+    }
+
+    // 다른 노드의 보유 관계 변경 반영. 색인을 아직 만들지 않았으면 다음 빌드 때 읽으므로 건너뜀
+    @Scheduled(fixedDelayString = "${game.suggest.weight-refresh-ms:300000}",
+            initialDelayString = "${game.suggest.weight-refresh-ms:300000}")
+    public void refreshWeights() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            current.index.resetWeights(ownerCountByRank(current.catalog));
+            log.debug("게임 자동완성 가중치 갱신: {}ms", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("게임 자동완성 가중치 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(GameOwnershipChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        for (Long gameId : event.getGameIds()) {
+            current.index.adjustWeight(current.catalog.rankOfId(gameId), event.getDelta());
+        }
+    }
+
+    // 카탈로그가 바뀌었으면 색인을 다시 만듭니다. 카탈로그가 아직 없으면 null
+    private Snapshot currentSnapshot() {
+        GameCatalog catalog = gameCatalogService.current();
+        Snapshot current = snapshot;
+        if (catalog == null || (current != null && current.catalog == catalog)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && current.catalog == catalog) {
+                return current;
+            }
+            long startedAt = System.currentTimeMillis();
+            snapshot = new Snapshot(catalog, GameSuggestIndex.build(catalog, ownerCountByRank(catalog)));
+            log.info("게임 자동완성 색인 빌드: {}개, {}ms", catalog.size(), System.currentTimeMillis() - startedAt);
+            return snapshot;
+        }
+    }
+
+    // 카탈로그 rank별 game.owner_count
+    private int[] ownerCountByRank(GameCatalog catalog) {
+        int[] ownerCountByRank = new int[catalog.size()];
+        for (Object[] row : gameRepository.findOwnerCounts()) {
+            int rank = catalog.rankOfId(((Number) row[0]).longValue());
+            if (rank >= 0) {
+                ownerCountByRank[rank] = ((Number) row[1]).intValue();
+            }
+        }
+        return ownerCountByRank;
+    }
+
+    private record Snapshot(GameCatalog catalog, GameSuggestIndex index) {
+    }
+}
@@ -2,22 +2,69 @@ package Readyplz.io.ReadyPlz.service;
 
 import Readyplz.io.ReadyPlz.domain.Game;
 import Readyplz.io.ReadyPlz.dto.SteamGameDTO;
+import Readyplz.io.ReadyPlz.event.GameCatalogChangedEvent;
 import Readyplz.io.ReadyPlz.repository.GameRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import Readyplz.io.ReadyPlz.util.IntHashSet;
+import Readyplz.io.ReadyPlz.util.LongHashSet;
+import Readyplz.io.ReadyPlz.util.SteamGameJsonReader;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
+/**
+ * 게임 JSON 파일을 DB로 가져옵니다. 요청 스레드를 막지 않도록 백그라운드 작업으로 실행하고 작업 ID로 진행 상황을 조회/취소합니다.
+ * 작업 안에서는 단계별 파이프라인으로 처리합니다.
+ * 1) 읽기(작업 스레드): JSON을 스트리밍으로 읽어 BATCH_SIZE개 청크로 나눔
+ * 2) 정규화(CPU 코어 수 스레드): 검증, 파일 내 중복 제거, 날짜 파싱/엔티티 변환
+ * 3) 쓰기(설정한 커넥션 수 스레드): 기존 DB 데이터와 중복 확인 후 청크당 한 트랜잭션으로 다중 행 INSERT
+ *    기존 appid/이름은 실행 시작 시 한 번 메모리 집합(appid는 int, 이름은 64비트 해시)으로 읽어 두고 메모리에서 비교합니다.
+ * 단계 사이는 크기가 제한된 대기열로 넘기므로 뒤 단계가 느리면 앞 단계가 기다립니다(배압).
+ * 파일 앞에서부터 빠짐없이 커밋된 청크까지를 Redis 체크포인트(행 수, 마지막 appid)로 남기므로,
+ * 중단/실패한 임포트를 다시 실행하면 처음부터 중복 확인을 반복하지 않고 체크포인트 다음 청크부터 이어서 처리합니다.
+ * 기본 모드는 새 게임만 추가하고, 델타 동기화 모드는 게임별 내용 해시(Game.contentHash)를 메모리에 올려 두고 비교해
+ * 내용이 바뀐 게임만 수정하고 새 게임은 추가합니다 (정기 갱신에서 바뀐 몇백 건만 쓰기 위함).
+ * 체크포인트가 노드 공통이므로 여러 노드 중 Redis 잠금을 잡은 한 곳에서만 실행하며, 실행 중에는 잠금을 주기적으로 연장합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,120 +72,709 @@ public class JsonToDbService {
 
     private final GameRepository gameRepository;
     private final ObjectMapper objectMapper;
-    
-    // 배치 크기 설정
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockService redisLockService;
+
+    // 배치 크기 설정 (체크포인트도 청크 단위이므로 바꾸면 기존 체크포인트는 맞지 않아 처음부터 실행해야 함)
     private static final int BATCH_SIZE = 1000;
+    private static final String SOURCE_FILE = "steam_games_data.json";
+    private static final String CHECKPOINT_KEY = "import:games:checkpoint";
+    private static final String LOCK_KEY = "import:games:lock";
+    // 노드가 죽어도 이 시간이 지나면 다른 노드가 임포트를 시작할 수 있음 (실행 중에는 LOCK_RENEW_MILLIS마다 연장)
+    private static final long LOCK_TTL_MILLIS = 120_000;
+    private static final long LOCK_RENEW_MILLIS = 30_000;
+    // 조회용으로 보관하는 최근 작업 수
+    private static final int MAX_JOB_HISTORY = 20;
+    // 취소/실패 후 작업 스레드가 진행 중인 청크를 마치기를 기다리는 최대 시간
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
 
-    public void saveDataFromJsonFile() throws IOException { 
-        ClassPathResource resource = new ClassPathResource("steam_games_data.json"); 
-        InputStream inputStream = resource.getInputStream(); 
+    // 대기열 종료 신호 (동일 객체 비교)
+    private static final Chunk<SteamGameDTO> END_OF_INPUT = new Chunk<>(-1, List.of());
+    private static final Chunk<Game> END_OF_GAMES = new Chunk<>(-1, List.of());
 
-        // JSON 파일을 JsonNode로 파싱
-        JsonNode rootNode = objectMapper.readTree(inputStream); 
+    // 정규화 스레드 수, 0이면 CPU 코어 수
+    @Value("${game.import.normalize-threads:0}")
+    private int normalizeThreads;
 
-        // 파일 구조 유연 처리
-        List<SteamGameDTO> games;
-        if (rootNode.isArray()) {
-            // 루트가 배열인 경우: [{"appId":..., "name":...}, ...]
-            games = objectMapper.convertValue(rootNode, new TypeReference<List<SteamGameDTO>>() {});
-        } else {
-            // Steam Web API dump 형태: { "applist": { "apps": [ {"appid":..., "name":...}, ... ] } }
-            JsonNode appsNode = rootNode.path("applist").path("apps");
-            if (appsNode.isMissingNode() || !appsNode.isArray()) {
-                throw new IllegalStateException("지원하지 않는 JSON 구조입니다. 배열 또는 {applist:{apps:[]}} 형식이어야 합니다.");
+    // 쓰기 스레드 수 = 동시에 사용하는 DB 커넥션 수 (커넥션 풀 크기보다 작게)
+    @Value("${game.import.write-threads:4}")
+    private int writeThreads;
+
+    // 단계 사이 대기열에 쌓아 둘 수 있는 청크 수 (메모리 상한 = 대기열 2개 x 청크 수 x BATCH_SIZE)
+    @Value("${game.import.queue-chunks:8}")
+    private int queueChunks;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(namedThreads("game-import-job-"));
+    // 임포트 잠금 연장 전용. 공용 @Scheduled 스레드에서 다른 작업에 밀려 잠금 TTL이 지나는 일이 없도록 분리
+    private final ScheduledExecutorService lockRenewer = Executors.newSingleThreadScheduledExecutor(namedThreads("game-import-lock-"));
+    // 작업 ID -> 작업 (최근 MAX_JOB_HISTORY건, 생성 순)
+    private final Map<String, GameImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<String, GameImportJob>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, GameImportJob> eldest) {
+            return size() > MAX_JOB_HISTORY;
+        }
+    });
+    private volatile GameImportJob lastJob;
+
+    // 청크 번호(체크포인트 계산용)와 행 목록
+    private record Chunk<T>(long seq, List<T> rows) {
+    }
+
+    // 실행 시작 시점의 기존 게임 appid와 이름 키 해시 (다 채운 뒤 읽기 전용으로 쓰기 스레드들이 공유)
+    private record ExistingGames(IntHashSet appIds, LongHashSet nameHashes) {
+    }
+
+    /**
+     * 임포트 작업을 백그라운드로 시작하고 작업 ID를 반환합니다. 이미 실행 중이면 IllegalStateException.
+     * resume이 true이고 같은 파일, 같은 모드의 체크포인트가 있으면 그 다음 청크부터, false이면 체크포인트를 지우고 처음부터 처리합니다.
+     * delta가 true이면 델타 동기화 모드(바뀐 게임 수정 + 새 게임 추가)로 실행합니다.
+     * 다른 노드에서 실행 중이어도 IllegalStateException입니다.
+     */
+    public String startImport(boolean resume, boolean delta) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 게임 데이터 임포트가 진행 중입니다.");
+        }
+        String token = redisLockService.tryAcquire(LOCK_KEY, LOCK_TTL_MILLIS);
+        if (token == null) {
+            running.set(false);
+            throw new IllegalStateException("다른 노드에서 게임 데이터 임포트가 진행 중입니다.");
+        }
+        GameImportJob job = new GameImportJob(UUID.randomUUID().toString(), delta);
+        jobs.put(job.getId(), job);
+        lastJob = job;
+        try {
+            jobExecutor.execute(() -> runJob(job, resume, token));
+        } catch (RuntimeException e) {
+            job.finish(GameImportJob.Status.FAILED, e.getMessage());
+            redisLockService.release(LOCK_KEY, token);
+            running.set(false);
+            throw e;
+        }
+        return job.getId();
+    }
+
+    // 작업 상태. 없는 작업이면 null
+    public Map<String, Object> jobStatus(String jobId) {
+        GameImportJob job = jobs.get(jobId);
+        return job != null ? job.toMap() : null;
+    }
+
+    // 최근 작업 상태 (최신순)
+    public List<Map<String, Object>> recentJobs() {
+        List<GameImportJob> snapshot;
+        synchronized (jobs) {
+            snapshot = new ArrayList<>(jobs.values());
+        }
+        List<Map<String, Object>> result = new ArrayList<>(snapshot.size());
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            result.add(snapshot.get(i).toMap());
+        }
+        return result;
+    }
+
+    // 취소 요청. 진행 중인 청크는 마저 커밋하고 멈추며 체크포인트는 유지됨. 없거나 이미 끝난 작업이면 false
+    public boolean cancelJob(String jobId) {
+        GameImportJob job = jobs.get(jobId);
+        return job != null && job.requestCancel();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 진행 중이거나 마지막으로 끝난 임포트의 단계별 카운터
+    public Map<String, Object> stats() {
+        GameImportJob job = lastJob;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("running", running.get());
+        if (job != null) {
+            body.putAll(job.toMap());
+        }
+        return body;
+    }
+
+    // 정기 델타 동기화. game.import.delta-cron 기본값 "-"은 사용 안 함 (예: 매일 새벽 4시 "0 0 4 * * *")
+    // 다른 임포트가 실행 중이면 이번 회차는 건너뜀
+    @Scheduled(cron = "${game.import.delta-cron:-}")
+    public void scheduledDeltaSync() {
+        try {
+            String jobId = startImport(true, true);
+            log.info("정기 게임 델타 동기화 시작. 작업 {}", jobId);
+        } catch (IllegalStateException e) {
+            log.info("정기 게임 델타 동기화 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    // 실행 중인 작업의 임포트 잠금 연장. 잠금을 잃었으면(Redis 장애가 길어져 만료 등) 다른 노드와 겹치지 않도록 작업 취소
+    private void renewLock(GameImportJob job, String token) {
+        try {
+            if (redisLockService.renew(LOCK_KEY, token, LOCK_TTL_MILLIS)) {
+                return;
             }
-            games = objectMapper.convertValue(appsNode, new TypeReference<List<SteamGameDTO>>() {});
+        } catch (Exception e) {
+            // TTL 안에 다음 연장에서 다시 시도
+            log.warn("게임 임포트 잠금 연장 실패: {}", e.getMessage());
+            return;
+        }
+        if (job.requestCancel()) {
+            log.warn("게임 임포트 잠금을 잃어 작업 {}을 취소합니다.", job.getId());
         }
+    }
 
-        if (games == null) {
-            games = java.util.List.of();
+    // 종료 시 진행 중인 작업은 취소하고 진행 중인 청크 커밋까지 기다림 (커밋된 청크까지 체크포인트가 남아 재기동 후 이어서 실행 가능)
+    @PreDestroy
+    public void shutdown() {
+        GameImportJob job = lastJob;
+        if (job != null) {
+            job.requestCancel();
         }
+        jobExecutor.shutdown();
+        awaitTermination(jobExecutor);
+        lockRenewer.shutdownNow();
+    }
 
-        log.info("{}개의 게임 데이터를 JSON 파일에서 읽었습니다. 배치 크기 {}로 DB 저장을 시작합니다.", games.size(), BATCH_SIZE);
+    private void runJob(GameImportJob job, boolean resume, String lockToken) {
+        job.start();
+        ScheduledFuture<?> renewal = lockRenewer.scheduleWithFixedDelay(() -> renewLock(job, lockToken),
+                LOCK_RENEW_MILLIS, LOCK_RENEW_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            runPipeline(job, new ClassPathResource(SOURCE_FILE), resume);
+            job.finish(GameImportJob.Status.COMPLETED, null);
+            log.info("전체 DB 저장 완료. {}", job.toMap());
+        } catch (CancellationException e) {
+            job.finish(GameImportJob.Status.CANCELLED, null);
+            log.info("게임 임포트 작업 취소됨. {}", job.toMap());
+        } catch (Exception e) {
+            job.finish(GameImportJob.Status.FAILED, e.getMessage());
+            log.error("게임 임포트 작업 실패: {}", e.getMessage(), e);
+        } finally {
+            renewal.cancel(false);
+            redisLockService.release(LOCK_KEY, lockToken);
+            running.set(false);
+            // 일부만 저장되고 멈춘 경우에도 저장/수정된 게임은 카탈로그에 반영 (메모리 게임 카탈로그 교체)
+            long changed = job.written.sum() + job.updated.sum();
+            if (changed > 0) {
+                eventPublisher.publishEvent(new GameCatalogChangedEvent((int) changed));
+            }
+        }
+    }
 
-        int totalSavedCount = 0;
-        int totalSkippedCount = 0;
-        int totalInvalidCount = 0;
-        int batchNumber = 0;
+    private void runPipeline(GameImportJob job, Resource resource, boolean resume) throws IOException {
+        int normalizers = normalizeThreads > 0 ? normalizeThreads : Runtime.getRuntime().availableProcessors();
+        int writers = Math.max(1, writeThreads);
 
-        // 배치 단위로 처리
-        for (int i = 0; i < games.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, games.size());
-            List<SteamGameDTO> batch = games.subList(i, endIndex); 
-            batchNumber++;
+        // 파일이나 모드가 바뀌면 이전 체크포인트는 쓰지 않음
+        String source = resource.getFilename() + ":" + resource.contentLength() + ":" + resource.lastModified()
+                + (job.isDelta() ? ":delta" : "");
+        Map<String, String> saved = null;
+        if (resume) {
+            saved = loadCheckpoint(source);
+        } else {
+            clearCheckpoint();
+        }
+        long resumeRows = saved != null ? Long.parseLong(saved.get("rows")) : 0;
+        String resumeAppId = saved != null ? saved.get("lastAppId") : null;
+        job.resumedFrom(resumeRows);
+        CheckpointTracker checkpoint = new CheckpointTracker(source, resumeRows);
+        // 델타 동기화: appid -> 내용 해시 (읽기 전용, 정규화 스레드들이 공유)
+        Map<Integer, Long> knownHashes = job.isDelta() ? loadContentHashes() : null;
+        // 새 게임만 추가하는 모드: 청크마다 IN 쿼리 두 번 대신 기존 appid/이름을 한 번만 읽어 메모리에서 중복 확인
+        ExistingGames existing = job.isDelta() ? null : loadExistingGames(job);
+        log.info("게임 JSON 임포트 시작. 작업 {}, 배치 크기 {}, 정규화 스레드 {}, 쓰기 스레드 {}, 시작 행 {}",
+                job.getId(), BATCH_SIZE, normalizers, writers, resumeRows);
 
-            try {
-                int[] result = processBatch(batch, batchNumber);
-                totalSavedCount += result[0];
-                totalSkippedCount += result[1];
-                totalInvalidCount += result[2];
+        BlockingQueue<Chunk<SteamGameDTO>> parsed = new ArrayBlockingQueue<>(Math.max(1, queueChunks));
+        BlockingQueue<Chunk<Game>> prepared = new ArrayBlockingQueue<>(Math.max(1, queueChunks));
+        // 청크가 병렬로 처리되므로 파일 내 중복(appId, 이름)은 스레드 간 공유 집합으로 먼저 나온 쪽만 통과
+        // 이름 유니크 인덱스는 대소문자/악센트를 구분하지 않는 collation이므로 nameKey로 비교 (한 행이라도 충돌하면 INSERT 전체가 실패)
+        Set<Integer> claimedAppIds = ConcurrentHashMap.newKeySet();
+        Set<String> claimedNames = ConcurrentHashMap.newKeySet();
 
-                log.info("배치 {} 완료: 저장={}, 건너뜀={}, 유효하지 않음={}",
-                        batchNumber, result[0], result[1], result[2]);
+        ExecutorService normalizePool = Executors.newFixedThreadPool(normalizers, namedThreads("game-import-normalize-"));
+        ExecutorService writePool = Executors.newFixedThreadPool(writers, namedThreads("game-import-write-"));
+        List<Future<?>> normalizeTasks = new ArrayList<>(normalizers);
+        List<Future<?>> writeTasks = new ArrayList<>(writers);
+        for (int i = 0; i < normalizers; i++) {
+            normalizeTasks.add(normalizePool.submit(() -> normalizeLoop(job, parsed, prepared, claimedAppIds, claimedNames, knownHashes, checkpoint)));
+        }
+        for (int i = 0; i < writers; i++) {
+            writeTasks.add(writePool.submit(() -> writeLoop(job, prepared, knownHashes, existing, checkpoint)));
+        }
 
-            } catch (Exception e) {
-                log.error("배치 {} 처리 중 오류 발생: {}", batchNumber, e.getMessage());
-                // 개별 배치 실패는 전체 프로세스를 중단하지 않음
+        boolean completed = false;
+        try {
+            long[] position = {0, 0}; // 파일에서 읽은 행 수, 다음 청크 번호
+            // 파일 전체를 트리/리스트로 만들지 않고 BATCH_SIZE개씩 읽어 다음 단계로 전달 (루트 배열, {applist:{apps:[]}} 모두 지원)
+            try (InputStream inputStream = resource.getInputStream()) {
+                SteamGameJsonReader.readInChunks(objectMapper, inputStream, BATCH_SIZE, rows -> {
+                    if (job.isCancelRequested()) {
+                        throw new CancellationException();
+                    }
+                    long chunkStart = position[0];
+                    position[0] += rows.size();
+                    if (chunkStart < resumeRows) {
+                        // 체크포인트까지는 이미 커밋된 청크. 경계가 맞고 마지막 appid가 같아야 같은 파일로 봄
+                        if (position[0] > resumeRows
+                                || (position[0] == resumeRows && !Objects.equals(resumeAppId, lastAppId(rows)))) {
+                            clearCheckpoint();
+                            throw new IllegalStateException("체크포인트와 파일 내용이 일치하지 않습니다. 처음부터 다시 실행해 주세요.");
+                        }
+                        return;
+                    }
+                    job.read.add(rows.size());
+                    long seq = position[1]++;
+                    checkpoint.register(seq, rows.size(), lastAppId(rows));
+                    if (!put(job, parsed, new Chunk<>(seq, rows), job.readBlockedNanos)) {
+                        throw new CancellationException();
+                    }
+                });
+            }
+            if (position[0] < resumeRows) {
+                clearCheckpoint();
+                throw new IllegalStateException("체크포인트가 파일 길이를 벗어났습니다. 처음부터 다시 실행해 주세요.");
+            }
+            // 앞 단계가 모두 끝난 뒤 다음 단계에 종료 신호 전달
+            for (int i = 0; i < normalizers; i++) {
+                put(job, parsed, END_OF_INPUT, job.readBlockedNanos);
+            }
+            awaitAll(normalizeTasks);
+            for (int i = 0; i < writers; i++) {
+                put(job, prepared, END_OF_GAMES, job.normalizeBlockedNanos);
+            }
+            awaitAll(writeTasks);
+            if (job.isCancelRequested()) {
+                throw new CancellationException();
+            }
+            completed = true;
+        } finally {
+            if (completed) {
+                normalizePool.shutdown();
+                writePool.shutdown();
+            } else {
+                // 취소, 읽기 실패 등: 작업 스레드는 대기열을 기다리다 취소를 확인하고 스스로 멈추므로,
+                // 인터럽트하지 않고 진행 중인 청크 커밋(체크포인트 반영)까지 기다림
+                job.requestCancel();
+                normalizePool.shutdown();
+                writePool.shutdown();
+                awaitTermination(normalizePool);
+                awaitTermination(writePool);
+            }
+        }
+
+        // 실패한 청크가 없으면 다음 실행은 처음부터 (이미 저장된 게임은 중복 확인으로 건너뜀)
+        if (job.failedChunks.sum() == 0) {
+            clearCheckpoint();
+        }
+    }
+
+    // 2단계: 검증, 파일 내 중복 제거, 엔티티 변환 (날짜 파싱 포함). 델타 동기화면 내용 해시가 같은 게임도 여기서 걸러냄
+    private void normalizeLoop(GameImportJob job, BlockingQueue<Chunk<SteamGameDTO>> parsed,
+                               BlockingQueue<Chunk<Game>> prepared, Set<Integer> claimedAppIds,
+                               Set<String> claimedNames, Map<Integer, Long> knownHashes, CheckpointTracker checkpoint) {
+        while (!job.isCancelRequested()) {
+            Chunk<SteamGameDTO> chunk = take(job, parsed);
+            if (chunk == null || chunk == END_OF_INPUT) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            List<Game> games;
+            try {
+                games = normalize(job, chunk.rows(), claimedAppIds, claimedNames, knownHashes);
+            } catch (RuntimeException e) {
+                // 작업 스레드가 죽으면 읽기 단계가 대기열에서 영영 기다리게 되므로 청크 단위로 격리 (체크포인트는 이 청크 앞에서 멈춤)
+                job.failedChunks.increment();
+                log.error("게임 청크 정규화 중 오류 발생({}건): {}", chunk.rows().size(), e.getMessage());
                 continue;
             }
+            job.normalized.add(chunk.rows().size());
+            job.normalizeBusyNanos.add(System.nanoTime() - startedAt);
+            if (games.isEmpty()) {
+                checkpoint.complete(chunk.seq());
+            } else if (!put(job, prepared, new Chunk<>(chunk.seq(), games), job.normalizeBlockedNanos)) {
+                return;
+            }
         }
+    }
 
-        log.info("전체 DB 저장 완료. 총 저장={}, 총 건너뜀={}, 총 유효하지 않음={}",
-                totalSavedCount, totalSkippedCount, totalInvalidCount);
+    private List<Game> normalize(GameImportJob job, List<SteamGameDTO> rows, Set<Integer> claimedAppIds,
+                                 Set<String> claimedNames, Map<Integer, Long> knownHashes) {
+        List<Game> games = new ArrayList<>(rows.size());
+        for (SteamGameDTO dto : rows) {
+            if (dto.getAppId() == null || dto.getName() == null || dto.getName().isEmpty()) {
+                job.invalid.increment();
+                continue;
+            }
+            Integer appId = dto.getAppId().intValue();
+            if (!claimedAppIds.add(appId)) {
+                job.duplicateInFile.increment();
+                continue;
+            }
+            if (!claimedNames.add(nameKey(dto.getName()))) {
+                // 이름이 중복이면 appId 선점도 되돌려 같은 appId의 다른 항목이 저장될 수 있게 함
+                claimedAppIds.remove(appId);
+                job.duplicateInFile.increment();
+                continue;
+            }
+            Game game = dto.toEntity();
+            Long knownHash = knownHashes != null ? knownHashes.get(appId) : null;
+            if (knownHash != null && knownHash.equals(game.getContentHash())) {
+                job.unchanged.increment();
+                continue;
+            }
+            games.add(game);
+        }
+        return games;
     }
-    
-    @Transactional
-    protected int[] processBatch(List<SteamGameDTO> batch, int batchNumber) {
-        int savedCount = 0;
-        int skippedCount = 0;
-        int invalidCount = 0;
-        
-        // 1) 유효한 DTO만 선별하고 배치 appid, name 목록 수집
-        List<SteamGameDTO> validDtos = batch.stream()
-                .filter(dto -> dto.getAppId() != null && dto.getName() != null && !dto.getName().isEmpty()) 
-                .collect(Collectors.toList()); 
 
-        invalidCount = batch.size() - validDtos.size();
+    // 3단계: 기존 DB 데이터와 중복 확인 후 청크 하나를 한 트랜잭션으로 저장. 실패하면 해당 청크 전체가 롤백되고 다음 청크를 계속 처리
+    private void writeLoop(GameImportJob job, BlockingQueue<Chunk<Game>> prepared, Map<Integer, Long> knownHashes,
+                           ExistingGames existing, CheckpointTracker checkpoint) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        while (!job.isCancelRequested()) {
+            Chunk<Game> chunk = take(job, prepared);
+            if (chunk == null || chunk == END_OF_GAMES) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                // {추가, 수정, 건너뜀} 건수. 롤백된 청크가 집계되지 않도록 커밋 후 반영
+                int[] counts = transactionTemplate.execute(status -> knownHashes != null
+                        ? syncChanged(chunk.rows(), knownHashes) : insertNew(job, chunk.rows(), existing));
+                if (counts != null) {
+                    job.written.add(counts[0]);
+                    job.updated.add(counts[1]);
+                    job.skippedExisting.add(counts[2]);
+                }
+                checkpoint.complete(chunk.seq());
+            } catch (Exception e) {
+                job.failedChunks.increment();
+                log.error("게임 청크 저장 중 오류 발생({}건): {}", chunk.rows().size(), e.getMessage());
+            }
+            job.writeProcessed.add(chunk.rows().size());
+            job.writeBusyNanos.add(System.nanoTime() - startedAt);
+        }
+    }
 
-        if (validDtos.isEmpty()) {
-            return new int[]{0, 0, invalidCount}; 
+    private int[] insertNew(GameImportJob job, List<Game> games, ExistingGames existing) {
+        List<Game> newGames = new ArrayList<>(games.size());
+        // 이름 해시가 기존 게임과 겹친 후보. 해시 충돌일 수 있으므로 실제 이름으로 확인
+        List<Game> suspects = new ArrayList<>();
+        int skipped = 0;
+        for (Game game : games) {
+            if (existing.appIds().contains(game.getAppid())) {
+                skipped++;
+                log.debug("게임 중복으로 건너뜀: AppID={}, 이름={}", game.getAppid(), game.getName());
+            } else if (existing.nameHashes().contains(nameHash(game.getName()))) {
+                suspects.add(game);
+            } else {
+                newGames.add(game);
+            }
         }
 
-        List<Integer> batchAppIds = validDtos.stream() 
-                .map(dto -> dto.getAppId().intValue()) 
-                .collect(Collectors.toList()); 
-        List<String> batchNames = validDtos.stream()
-                .map(SteamGameDTO::getName)
-                .collect(Collectors.toList());
+        if (!suspects.isEmpty()) {
+            // 대부분 실제 중복이며, DB collation으로 비교하는 쿼리 한 번으로 확정 (후보가 없는 청크는 쿼리 없음)
+            List<String> names = new ArrayList<>(suspects.size());
+            suspects.forEach(game -> names.add(game.getName()));
+            Set<String> confirmed = new HashSet<>();
+            gameRepository.findExistingNames(names).forEach(name -> confirmed.add(nameKey(name)));
+            for (Game game : suspects) {
+                if (confirmed.contains(nameKey(game.getName()))) {
+                    skipped++;
+                    log.debug("게임 이름 중복으로 건너뜀: AppID={}, 이름={}", game.getAppid(), game.getName());
+                } else {
+                    job.nameHashCollisions.increment();
+                    newGames.add(game);
+                }
+            }
+            job.nameHashChecks.add(suspects.size());
+        }
+        // IDENTITY 전략이라 save()는 행마다 INSERT 왕복이므로 다중 행 INSERT 사용
+        return new int[]{gameRepository.insertAll(newGames), 0, skipped};
+    }
 
-        // 2) 단 한 번의 SELECT로 이미 존재하는 appid 목록 조회
-        List<Integer> existingAppIds = gameRepository.findExistingAppids(batchAppIds);
-        Set<Integer> existingAppIdSet = existingAppIds.stream().collect(Collectors.toSet());
+    // 기존 게임의 appid와 이름 키 해시를 읽어 메모리 집합으로 만들고, 크기와 메모리 사용량을 작업 요약에 기록
+    private ExistingGames loadExistingGames(GameImportJob job) {
+        long startedAt = System.currentTimeMillis();
+        List<Integer> appIds = gameRepository.findAllAppids();
+        IntHashSet appIdSet = new IntHashSet(appIds.size());
+        appIds.forEach(appIdSet::add);
 
-        List<String> existingNames = gameRepository.findExistingNames(batchNames);
-        Set<String> existingNameSet = existingNames.stream().collect(Collectors.toSet());
+        List<String> names = gameRepository.findAllNames();
+        LongHashSet nameHashes = new LongHashSet(names.size());
+        names.forEach(name -> nameHashes.add(nameHash(name)));
 
-        // 배치 내에서도 중복 저장 방지: 이번 처리 중 이미 본 appId/name은 즉시 차단
-        Set<Integer> seenAppIds = new HashSet<>(existingAppIdSet);
-        Set<String> seenNames = new HashSet<>(existingNameSet);
+        long loadMillis = System.currentTimeMillis() - startedAt;
+        job.dedupeLoaded(appIdSet.size(), nameHashes.size(), appIdSet.estimatedBytes() + nameHashes.estimatedBytes(), loadMillis);
+        log.info("기존 게임 키 로드: appid {}건, 이름 {}건, 약 {}KB, {}ms", appIdSet.size(), nameHashes.size(),
+                (appIdSet.estimatedBytes() + nameHashes.estimatedBytes()) / 1024, loadMillis);
+        return new ExistingGames(appIdSet, nameHashes);
+    }
 
-        // 3) 메모리에서 비교 후 신규만 일괄 저장
-        for (SteamGameDTO dto : validDtos) {
-            Integer appId = dto.getAppId().intValue();
-            String name = dto.getName();
-            if (!seenAppIds.contains(appId) && !seenNames.contains(name)) {
-                Game game = dto.toEntity();
-                gameRepository.save(game);
-                savedCount++;
-                log.debug("게임 저장됨: AppID={}, 이름={}", dto.getAppId(), name);
-                seenAppIds.add(appId);
-                seenNames.add(name);
+    /**
+     * 이름 비교 키: 유니크 인덱스의 collation(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트, 호환 문자(전각, 합자)를 무시 (é == e, ﬁ == fi).
+     * 실제 collation과 완전히 같지는 않으므로, 기존 게임과 키가 겹치면 DB 쿼리로 확인합니다.
+     */
+    static String nameKey(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // 이름 키의 64비트 FNV-1a 해시
+    private static long nameHash(String name) {
+        String key = nameKey(name);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 델타 동기화: 정규화 단계에서 내용이 같은 게임은 이미 걸러졌으므로, 여기 온 게임은 새 게임이거나 내용이 바뀐 게임
+    private int[] syncChanged(List<Game> games, Map<Integer, Long> knownHashes) {
+        List<String> names = new ArrayList<>(games.size());
+        for (Game game : games) {
+            names.add(game.getName());
+        }
+        // 이름 유니크 인덱스 충돌 확인용: 이름 키(nameKey, collation처럼 대소문자/악센트 무시) -> 그 이름을 가진 게임의 appid
+        Map<String, Integer> nameOwners = new HashMap<>();
+        for (Object[] row : gameRepository.findAppidsByNames(names)) {
+            nameOwners.put(nameKey((String) row[1]), (Integer) row[0]);
+        }
+
+        List<Game> newGames = new ArrayList<>();
+        Map<Integer, Game> changedGames = new HashMap<>();
+        int skipped = 0;
+        for (Game game : games) {
+            Integer nameOwner = nameOwners.get(nameKey(game.getName()));
+            boolean known = knownHashes.containsKey(game.getAppid());
+            if (nameOwner != null && !nameOwner.equals(game.getAppid())) {
+                // 다른 게임이 이미 쓰는 이름으로 추가/변경하면 청크 전체가 실패하므로 건너뜀
+                skipped++;
+                log.debug("게임 이름 중복으로 건너뜀: AppID={}, 이름={}", game.getAppid(), game.getName());
+            } else if (known) {
+                changedGames.put(game.getAppid(), game);
             } else {
-                skippedCount++;
-                log.debug("게임 중복으로 건너뜀: AppID={}, 이름={}", dto.getAppId(), name);
+                newGames.add(game);
+            }
+        }
+
+        // 해시를 불러온 뒤 다른 경로로 추가된 게임은 새 게임으로 넣지 않음
+        if (!newGames.isEmpty()) {
+            List<Integer> appIds = new ArrayList<>(newGames.size());
+            newGames.forEach(game -> appIds.add(game.getAppid()));
+            Set<Integer> existingAppIds = new HashSet<>(gameRepository.findExistingAppids(appIds));
+            if (!existingAppIds.isEmpty()) {
+                skipped += existingAppIds.size();
+                newGames.removeIf(game -> existingAppIds.contains(game.getAppid()));
+            }
+        }
+        int inserted = gameRepository.insertAll(newGames);
+
+        // 바뀐 게임만 조회해 수정 (커밋 시 변경 감지로 UPDATE, updated_at은 @PreUpdate로 갱신)
+        int updated = 0;
+        if (!changedGames.isEmpty()) {
+            for (Game entity : gameRepository.findByAppidIn(changedGames.keySet())) {
+                Game incoming = changedGames.get(entity.getAppid());
+                entity.updateGameInfo(incoming.getName(), incoming.getReleaseDate(), incoming.getHeaderImageUrl());
+                updated++;
+                log.debug("게임 정보 수정: AppID={}, 이름={}", entity.getAppid(), entity.getName());
+            }
+        }
+        return new int[]{inserted, updated, skipped};
+    }
+
+    // 델타 동기화 시작 전: 해시가 없는 행(컬럼 추가 전 데이터)을 채운 뒤 전체 appid -> 해시를 메모리로 읽음
+    private Map<Integer, Long> loadContentHashes() {
+        long startedAt = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int backfilled = 0;
+        while (true) {
+            Integer filled = transactionTemplate.execute(status -> {
+                List<Game> legacy = gameRepository.findTop1000ByContentHashIsNull();
+                // 같은 값으로 다시 설정하면 updateGameInfo가 해시를 계산해 채움
+                legacy.forEach(game -> game.updateGameInfo(game.getName(), game.getReleaseDate(), game.getHeaderImageUrl()));
+                return legacy.size();
+            });
+            if (filled == null || filled == 0) {
+                break;
+            }
+            backfilled += filled;
+        }
+        if (backfilled > 0) {
+            log.info("게임 내용 해시 채우기: {}건", backfilled);
+        }
+
+        List<Object[]> rows = gameRepository.findContentHashes();
+        Map<Integer, Long> hashes = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (Object[] row : rows) {
+            hashes.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        log.info("게임 내용 해시 로드: {}건, {}ms", hashes.size(), System.currentTimeMillis() - startedAt);
+        return hashes;
+    }
+
+    /**
+     * 청크는 순서 없이 커밋되므로, 파일 앞에서부터 빠짐없이 커밋된 청크까지만 체크포인트로 인정합니다.
+     * 실패한 청크가 있으면 체크포인트는 그 앞에서 멈추고, 다음 실행에서 그 청크부터 다시 처리합니다.
+     */
+    private final class CheckpointTracker {
+
+        private final String source;
+        // 청크 번호 -> 행 수, 마지막 appid (읽기 단계에서 등록, 체크포인트가 지나가면 제거)
+        private final Map<Long, Integer> chunkRows = new HashMap<>();
+        private final Map<Long, String> chunkLastAppIds = new HashMap<>();
+        // 커밋됐지만 앞 청크가 아직 커밋되지 않은 청크 번호
+        private final Set<Long> committedAhead = new HashSet<>();
+        private long nextSeq;
+        private long committedRows;
+
+        CheckpointTracker(String source, long committedRows) {
+            this.source = source;
+            this.committedRows = committedRows;
+        }
+
+        synchronized void register(long seq, int rows, String lastAppId) {
+            chunkRows.put(seq, rows);
+            chunkLastAppIds.put(seq, lastAppId);
+        }
+
+        // 여러 쓰기 스레드가 호출하므로 오래된 체크포인트가 나중에 저장되지 않도록 저장까지 잠금 안에서 처리
+        synchronized void complete(long seq) {
+            committedAhead.add(seq);
+            String lastAppId = null;
+            boolean advanced = false;
+            while (committedAhead.remove(nextSeq)) {
+                committedRows += chunkRows.remove(nextSeq);
+                lastAppId = chunkLastAppIds.remove(nextSeq);
+                nextSeq++;
+                advanced = true;
+            }
+            if (advanced) {
+                saveCheckpoint(Map.of("source", source, "rows", Long.toString(committedRows),
+                        "lastAppId", lastAppId != null ? lastAppId : ""));
+            }
+        }
+    }
+
+    // 같은 파일의 체크포인트만 사용. 없거나 다른 파일이거나 Redis 오류면 null (처음부터)
+    private Map<String, String> loadCheckpoint(String source) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(CHECKPOINT_KEY);
+            if (entries.isEmpty()) {
+                return null;
             }
+            if (!source.equals(entries.get("source"))) {
+                log.info("게임 임포트 체크포인트가 현재 파일과 달라 처음부터 실행합니다.");
+                return null;
+            }
+            Map<String, String> checkpoint = new HashMap<>();
+            checkpoint.put("rows", Long.toString(Long.parseLong(String.valueOf(entries.get("rows")))));
+            Object lastAppId = entries.get("lastAppId");
+            checkpoint.put("lastAppId", lastAppId == null || "".equals(lastAppId) ? null : String.valueOf(lastAppId));
+            return checkpoint;
+        } catch (Exception e) {
+            log.warn("게임 임포트 체크포인트 조회 실패, 처음부터 실행: {}", e.getMessage());
+            return null;
         }
-        
-        return new int[]{savedCount, skippedCount, invalidCount};
     }
-}
\ No newline at end of file
+
+    private void saveCheckpoint(Map<String, String> checkpoint) {
+        try {
+            redisTemplate.opsForHash().putAll(CHECKPOINT_KEY, checkpoint);
+        } catch (Exception e) {
+            // 체크포인트는 재실행 시간을 줄이는 용도일 뿐이므로 임포트는 계속함
+            log.warn("게임 임포트 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void clearCheckpoint() {
+        try {
+            redisTemplate.delete(CHECKPOINT_KEY);
+        } catch (Exception e) {
+            log.warn("게임 임포트 체크포인트 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String lastAppId(List<SteamGameDTO> rows) {
+        Long appId = rows.get(rows.size() - 1).getAppId();
+        return appId != null ? appId.toString() : null;
+    }
+
+    // 대기열이 가득 차면 빌 때까지 기다림(배압). 기다린 시간은 blockedNanos에 누적. 취소/인터럽트되면 false
+    private static <T> boolean put(GameImportJob job, BlockingQueue<T> queue, T item, LongAdder blockedNanos) {
+        if (queue.offer(item)) {
+            return true;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            // 뒤 단계가 취소로 먼저 멈춰도 영영 기다리지 않도록 주기적으로 취소 여부 확인
+            while (!queue.offer(item, 200, TimeUnit.MILLISECONDS)) {
+                if (job.isCancelRequested()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            blockedNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+
+    // 취소/인터럽트되면 null (임포트 중단)
+    private static <T> T take(GameImportJob job, BlockingQueue<T> queue) {
+        try {
+            // 앞 단계가 취소로 먼저 멈춰도 영영 기다리지 않도록 주기적으로 취소 여부 확인
+            T item;
+            while ((item = queue.poll(200, TimeUnit.MILLISECONDS)) == null) {
+                if (job.isCancelRequested()) {
+                    return null;
+                }
+            }
+            return item;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("게임 데이터 임포트가 중단되었습니다.");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("게임 데이터 임포트 작업 스레드 오류: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private static void awaitTermination(ExecutorService pool) {
+        try {
+            if (!pool.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                // 마지막 수단으로 인터럽트 (진행 중이던 청크는 롤백되고 체크포인트는 그 앞에서 멈춤)
+                log.warn("게임 임포트 작업 스레드가 {}초 안에 끝나지 않아 인터럽트합니다.", STOP_TIMEOUT_SECONDS);
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
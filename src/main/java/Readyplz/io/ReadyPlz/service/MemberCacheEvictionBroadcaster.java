@@ -0,0 +1,66 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 회원 계정 변경 이벤트를 Redis Pub/Sub으로 다른 노드에 전파하고, 받은 이벤트를 로컬 이벤트로 다시 발행합니다.
+ * 각 노드의 UserDetails/보안 버전/검증 토큰 캐시가 같은 회원의 오래된 항목을 버리도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictionBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "auth:member-changed";
+
+    // 자기 자신이 보낸 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberSecurityChanged(MemberSecurityChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + " " + event.getUsername());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 각 캐시의 TTL이 지나면 반영
+            log.warn("회원 캐시 무효화 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(' ');
+        if (sep <= 0 || body.substring(0, sep).equals(nodeId)) {
+            return;
+        }
+        eventPublisher.publishEvent(new MemberSecurityChangedEvent(body.substring(sep + 1), true));
+    }
+}
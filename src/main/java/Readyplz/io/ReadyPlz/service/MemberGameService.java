@@ -4,8 +4,11 @@ import Readyplz.io.ReadyPlz.domain.Member;
 import Readyplz.io.ReadyPlz.domain.Game;
 import Readyplz.io.ReadyPlz.domain.MemberGame;
 import Readyplz.io.ReadyPlz.dto.SteamGameDetailDTO;
+import Readyplz.io.ReadyPlz.event.GameOwnershipChangedEvent;
+import Readyplz.io.ReadyPlz.repository.GameRepository;
 import Readyplz.io.ReadyPlz.repository.MemberGameRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,8 @@ import java.util.stream.Collectors;
 public class MemberGameService {
 
     private final MemberGameRepository memberGameRepository;
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true) 
     public List<SteamGameDetailDTO> getMemberGames(Member member) { 
@@ -37,10 +42,10 @@ public class MemberGameService {
     }
 
     @Transactional(readOnly = true)
-    public Map<Long, List<Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO>> getSameGameUsersForAllGames(List<Long> gameIds, Long currentUserId) {
+    public Map<Long, List<Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO>> getSameGameUsersForAllGames(List<Long> gameIds, String currentUsername) {
         List<Readyplz.io.ReadyPlz.dto.SummaryDTO.GameUserSummaryDTO> rows = memberGameRepository.findGameUserSummariesByGameIds(gameIds);
         Map<Long, List<Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO>> sameGameUsersMap = rows.stream()
-                .filter(row -> !row.getMemberId().equals(currentUserId))
+                .filter(row -> !row.getUsername().equals(currentUsername))
                 .collect(Collectors.groupingBy(
                         Readyplz.io.ReadyPlz.dto.SummaryDTO.GameUserSummaryDTO::getGameId,
                         Collectors.mapping(row -> new Readyplz.io.ReadyPlz.dto.SummaryDTO.MemberSummaryDTO(
@@ -51,6 +56,12 @@ public class MemberGameService {
         return sameGameUsersMap;
     }
 
+    // 컬렉션 화면용 보유 게임 목록 (엔티티 로딩 없는 DTO 프로젝션)
+    @Transactional(readOnly = true)
+    public List<Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO> findOwnedGameSummaries(String username) {
+        return memberGameRepository.findOwnedGameSummariesByUsername(username);
+    }
+
     @Transactional(readOnly = true) 
     public Set<MemberGame> findByMember(Member member) {
         return memberGameRepository.findByMember(member);
@@ -73,11 +84,21 @@ public class MemberGameService {
 
     @Transactional 
     public MemberGame save(MemberGame memberGame) {
-        return memberGameRepository.save(memberGame);
+        boolean isNew = memberGame.getId() == null;
+        MemberGame saved = memberGameRepository.save(memberGame);
+        if (isNew && saved.getGame() != null) {
+            gameRepository.adjustOwnerCount(saved.getGame().getId(), 1);
+            eventPublisher.publishEvent(new GameOwnershipChangedEvent(List.of(saved.getGame().getId()), 1));
+        }
+        return saved;
     }
 
     @Transactional
     public void deleteByMemberAndGame(Member member, Game game) { 
-        memberGameRepository.deleteByMemberAndGame(member, game);
+        int deleted = memberGameRepository.deleteByMemberAndGame(member, game);
+        if (deleted > 0) {
+            gameRepository.decrementOwnerCount(game.getId(), deleted);
+            eventPublisher.publishEvent(new GameOwnershipChangedEvent(List.of(game.getId()), -deleted));
+        }
     }
 } 
\ No newline at end of file
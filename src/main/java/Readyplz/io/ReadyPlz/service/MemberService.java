@@ -1,16 +1,24 @@
 package Readyplz.io.ReadyPlz.service;
 
 import Readyplz.io.ReadyPlz.domain.Member;
+import Readyplz.io.ReadyPlz.event.GameOwnershipChangedEvent;
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
+import Readyplz.io.ReadyPlz.repository.GameRepository;
 import Readyplz.io.ReadyPlz.repository.MemberRepository;
 import Readyplz.io.ReadyPlz.repository.MemberGameRepository;
 import Readyplz.io.ReadyPlz.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -24,6 +32,9 @@ public class MemberService {
     private final EmailService emailService;
     private final MemberGameRepository memberGameRepository;
     private final MessageRepository messageRepository;
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public Long register(Member member) {
@@ -71,23 +82,18 @@ public class MemberService {
         memberRepository.deleteById(id); // JpaRepository가 제공하는 기본 메소드
     }
 
+    // 응답 시간 균일화(사용자 열거 방지)는 트랜잭션 밖인 MemberController에서 고정 최소 시간으로 처리
     @Transactional
     public void createPasswordResetToken(String email) {
-        // 사용자 열거형 공격 방지: 존재 여부와 무관하게 동일한 처리 흐름 유지
         String token = java.util.UUID.randomUUID().toString();
         LocalDateTime expiry = LocalDateTime.now().plusHours(1);
 
         //dirtyCheck를 통해 변경감지시 자동으로 save메서드 진행
-        try {
-            memberRepository.findByEmail(email).ifPresent(member -> {
-                member.setResetToken(token);
-                member.setResetTokenExpiry(expiry);
-                emailService.sendResetMail(email, token);
-            });
-        } finally {
-            // 메일 유무에 따른 타이밍 기반 추정 완화를 위해 항상 일정한 연산 수행 (예: BCrypt 해시 연산 mais CPU는 더 잡아먹음)
-            passwordEncoder.encode(token);
-        }
+        memberRepository.findByEmail(email).ifPresent(member -> {
+            member.setResetToken(token);
+            member.setResetTokenExpiry(expiry);
+            emailService.sendResetMail(email, token);
+        });
     }
 
     public Optional<Member> findByResetToken(String token) {
@@ -101,19 +107,31 @@ public class MemberService {
     }
 
     //비밀번호 재설정을 위한 메서드드
-    @Transactional
+    // BCrypt 해시는 트랜잭션 밖에서 계산 (해시 대기/계산 동안 DB 커넥션을 잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void resetPassword(String token, String newPassword) {
+        validResetTokenMember(token);
+        String encodedPassword = passwordEncoder.encode(newPassword);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 해시하는 동안 다른 요청이 토큰을 쓴 경우를 막기 위해 다시 확인
+            Member member = validResetTokenMember(token);
+            member.changePassword(encodedPassword);
+            member.setResetToken(null);
+            member.setResetTokenExpiry(null);
+            memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberSecurityChangedEvent(member.getUsername()));
+        });
+    }
+
+    private Member validResetTokenMember(String token) {
         Member member = memberRepository.findByResetToken(token)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
 
         if (member.getResetTokenExpiry() == null || member.getResetTokenExpiry().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("토큰이 만료되었습니다.");
         }
-
-        member.changePassword(passwordEncoder.encode(newPassword));
-        member.setResetToken(null);
-        member.setResetTokenExpiry(null);
-        memberRepository.save(member);
+        return member;
     }
     
     @Transactional
@@ -131,43 +149,70 @@ public class MemberService {
         }
         member.changeNickname(newNickname);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberSecurityChangedEvent(username));
     }
 
     // 닉네임 유효성 검증은 컨트롤러 DTO에서 처리
     //프,로필 페이지에서 비밀번호 재설정을 위한 메서드
-    @Transactional
+    // BCrypt 비교/해시는 트랜잭션 밖에서 계산
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(String username, String currentPassword, String newPassword, String confirmPassword) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-
-        if (!passwordEncoder.matches(currentPassword, member.getPassword())) {
-            throw new IllegalArgumentException("password_input_error");
-        }
-
-        member.changePassword(passwordEncoder.encode(newPassword));
-        memberRepository.save(member);
+        String verifiedHash = verifyPassword(username, currentPassword);
+        String encodedPassword = passwordEncoder.encode(newPassword);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member member = findWithPasswordHash(username, verifiedHash);
+            member.changePassword(encodedPassword);
+            memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberSecurityChangedEvent(username));
+        });
     }
 
     /**
      * 계정 탈퇴(자기 자신): 비밀번호 확인, 연관 데이터 정리 후 회원 삭제
+     * 비밀번호 확인(BCrypt)은 트랜잭션 밖에서 하고, 삭제는 그 뒤 한 트랜잭션으로 처리합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteOwnAccount(String username, String rawPassword) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-
-        if (!passwordEncoder.matches(rawPassword, member.getPassword())) {
-            throw new IllegalArgumentException("password_input_error");
-        }
+        String verifiedHash = verifyPassword(username, rawPassword);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                deleteMemberData(findWithPasswordHash(username, verifiedHash)));
+    }
 
+    private void deleteMemberData(Member member) {
+        String username = member.getUsername();
         // 연관 데이터 삭제: 메시지(발신/수신), 멤버-게임 관계
         // 외래키 제약으로 수신 메시지 먼저 삭제
         messageRepository.deleteAllByReceiverId(member.getId());
         messageRepository.deleteAllBySenderId(member.getId());
+        List<Long> ownedGameIds = memberGameRepository.findGameIdsByMember(member);
         memberGameRepository.deleteByMember(member);
+        if (!ownedGameIds.isEmpty()) {
+            gameRepository.decrementOwnerCounts(ownedGameIds);
+            eventPublisher.publishEvent(new GameOwnershipChangedEvent(ownedGameIds, -1));
+        }
 
         // 최종 회원 삭제
         memberRepository.delete(member);
+        eventPublisher.publishEvent(new MemberSecurityChangedEvent(username));
+    }
+
+    // 비밀번호가 맞으면 확인에 쓴 저장된 해시를 반환. 트랜잭션 밖에서 호출 (조회 후 커넥션을 돌려주고 BCrypt 계산)
+    private String verifyPassword(String username, String rawPassword) {
+        String passwordHash = findByUsername(username).getPassword();
+        if (!passwordEncoder.matches(rawPassword, passwordHash)) {
+            throw new IllegalArgumentException("password_input_error");
+        }
+        return passwordHash;
+    }
+
+    // 트랜잭션 안에서 다시 조회. 확인 이후 비밀번호가 바뀌었으면 확인을 무효로 봄
+    private Member findWithPasswordHash(String username, String verifiedHash) {
+        Member member = findByUsername(username);
+        if (!verifiedHash.equals(member.getPassword())) {
+            throw new IllegalArgumentException("password_input_error");
+        }
+        return member;
     }
 
     // ADMIN 계정 찾기
@@ -0,0 +1,65 @@
+package Readyplz.io.ReadyPlz.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행해야 하는 작업(정기 보정, 게임 임포트)용 Redis 잠금입니다.
+ * SET NX PX로 잡고, 값에 소유자 토큰을 넣어 두어 TTL이 지나 다른 노드가 잡은 잠금을 연장하거나 풀지 않습니다.
+ * Redis를 쓸 수 없으면 잠금을 얻지 못한 것으로 보고 작업을 건너뜁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    // 소유자 토큰이 같을 때만 TTL 연장. KEYS[1]=잠금 키 / ARGV[1]=토큰, ARGV[2]=TTL(ms)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2])", Long.class);
+
+    // 소유자 토큰이 같을 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 잠금을 얻으면 소유자 토큰, 이미 다른 곳에서 잡고 있거나 Redis 오류면 null
+    public String tryAcquire(String key, long ttlMillis) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttlMillis, TimeUnit.MILLISECONDS);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("잠금 획득 실패({}): {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 아직 이 토큰이 잡고 있으면 TTL을 연장하고 true, 잃었으면(만료 후 다른 곳에서 획득) false.
+     * 일시적인 Redis 오류로 작업을 멈추지 않도록 오류는 그대로 던지며, 호출하는 쪽에서 다음 연장 때 다시 시도합니다.
+     */
+    public boolean renew(String key, String token, long ttlMillis) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttlMillis));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    public void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            // 풀지 못해도 TTL이 지나면 사라짐
+            log.warn("잠금 해제 실패({}): {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.event.MemberSecurityChangedEvent;
+import Readyplz.io.ReadyPlz.repository.MemberRepository;
+import Readyplz.io.ReadyPlz.util.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회원별 보안 버전(security_version)을 로컬 캐시에 두고 JWT의 sv 클레임과 비교합니다.
+ * DB는 캐시 미스이거나 비밀번호 변경 등으로 캐시가 비워졌을 때만 조회합니다.
+ */
+@Slf4j
+@Service
+public class SecurityVersionService {
+
+    // 회원이 존재하지 않을 때 캐시에 저장하는 값 (삭제된 계정의 토큰 반복 조회 방지)
+    private static final long MISSING_MEMBER = -1L;
+
+    private final MemberRepository memberRepository;
+    private final BoundedTtlCache<String, Long> versionCache;
+
+    public SecurityVersionService(MemberRepository memberRepository,
+                                  @Value("${jwt.security-version.cache-size:10000}") int cacheSize,
+                                  @Value("${jwt.security-version.cache-ttl-ms:30000}") long cacheTtlMillis) {
+        this.memberRepository = memberRepository;
+        // TTL은 다른 노드에서 발생한 변경이 늦어도 이 시간 안에는 반영되도록 하는 상한입니다.
+        this.versionCache = new BoundedTtlCache<>(cacheSize, cacheTtlMillis);
+    }
+
+    // 현재 보안 버전 조회. 회원이 없으면 빈 Optional
+    public Optional<Long> currentVersion(String username) {
+        Long cached = versionCache.get(username);
+        if (cached == null) {
+            cached = memberRepository.findSecurityVersionByUsername(username)
+                    .map(v -> v == null ? 0L : v)
+                    .orElse(MISSING_MEMBER);
+            versionCache.put(username, cached);
+        }
+        return cached == MISSING_MEMBER ? Optional.empty() : Optional.of(cached);
+    }
+
+    // 토큰에 담긴 보안 버전이 현재 버전과 같은지 확인
+    public boolean isCurrent(String username, Long tokenVersion) {
+        if (username == null || tokenVersion == null) {
+            return false;
+        }
+        return currentVersion(username).map(tokenVersion::equals).orElse(false);
+    }
+
+    public void evict(String username) {
+        versionCache.evict(username);
+    }
+
+    public Map<String, Object> stats() {
+        return versionCache.stats();
+    }
+
+    // 커밋 이후에 비워야 다른 요청이 커밋 전 값을 다시 캐시하지 않습니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberSecurityChanged(MemberSecurityChangedEvent event) {
+        evict(event.getUsername());
+        log.debug("보안 버전 캐시 제거: {}", event.getUsername());
+    }
+}
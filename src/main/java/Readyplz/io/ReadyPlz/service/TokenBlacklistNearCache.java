@@ -0,0 +1,219 @@
+package Readyplz.io.ReadyPlz.service;
+
+import Readyplz.io.ReadyPlz.event.TokenBlacklistedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블랙리스트(로그아웃된 토큰) 조회 앞단의 로컬 캐시입니다.
+ * 최근 무효화된 토큰 식별자만 메모리에 보관하고, 여기에 없으면 Redis를 조회하지 않고 바로 "블랙리스트 아님"으로 판단합니다.
+ * 다른 노드의 로그아웃은 Redis Pub/Sub 채널로 전달받고, 주기적으로 Redis를 다시 스캔해 누락된 메시지를 보정합니다.
+ * 초기 동기화 전이거나 상한을 넘은 경우에는 ready=false가 되어 모든 조회가 Redis로 넘어갑니다.
+ * 구독이 끊긴 경우도 ready=false로 바꿉니다. 구독 해제 알림(SubscriptionListener)과 함께, 알림 없이 조용히 끊긴 연결은
+ * 재동기화 때마다 자기 채널로 보내는 하트비트가 다음 재동기화 전까지 돌아오지 않는 것으로 감지하며,
+ * 이후 하트비트가 다시 돌아오고 재동기화가 끝날 때까지 Redis를 직접 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistNearCache implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+    private static final String HEARTBEAT_PREFIX = "heartbeat:";
+
+    // 자기 하트비트만 확인하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 블랙리스트 식별자 -> 로컬 만료 시각(ms)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // 마지막으로 보낸 하트비트 번호와 돌려받은 번호 (보낸 적 없으면 0)
+    private final AtomicLong heartbeatSent = new AtomicLong();
+    private volatile long heartbeatReceived;
+
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisFallthroughs = new LongAdder();
+
+    @Value("${jwt.blacklist.near-cache-max:100000}")
+    private int maxEntries;
+
+    // 스캔으로 읽어온 항목은 남은 TTL을 모르므로 액세스 토큰 최대 수명만큼 보관 (길게 잡아도 Redis 재확인만 더 할 뿐 안전)
+    @Value("${jwt.blacklist.near-cache-ttl-ms:3600000}")
+    private long defaultTtlMillis;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // Redis를 확인해야 하면 true (로컬에 있거나 로컬 캐시를 신뢰할 수 없는 상태)
+    public boolean mightBeBlacklisted(String id) {
+        if (!ready) {
+            redisFallthroughs.increment();
+            return true;
+        }
+        Long expiresAt = revoked.get(id);
+        if (expiresAt == null) {
+            localMisses.increment();
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revoked.remove(id, expiresAt);
+            localMisses.increment();
+            return false;
+        }
+        redisFallthroughs.increment();
+        return true;
+    }
+
+    // 로컬 기록 + 다른 노드에 전파
+    public void recordAndPublish(String id, long ttlMillis) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        record(id, expiresAt);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id + " " + expiresAt);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 다음 재동기화 때 반영
+            log.warn("블랙리스트 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(HEARTBEAT_PREFIX)) {
+            onHeartbeat(body.substring(HEARTBEAT_PREFIX.length()));
+            return;
+        }
+        int sep = body.lastIndexOf(' ');
+        if (sep <= 0) {
+            return;
+        }
+        try {
+            record(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트 형식: {}", body);
+        }
+    }
+
+    // 구독이 풀리면(연결 끊김 등) 다시 구독되어도 그사이 메시지를 놓쳤을 수 있으므로 다음 재동기화까지 Redis 직접 조회
+    @Override
+    public void onChannelUnsubscribed(@NonNull byte[] channel, long count) {
+        if (ready) {
+            ready = false;
+            log.warn("블랙리스트 채널 구독 해제 - 재동기화 전까지 Redis 직접 조회로 전환");
+        }
+    }
+
+    private void onHeartbeat(String body) {
+        int sep = body.lastIndexOf(':');
+        if (sep <= 0 || !body.substring(0, sep).equals(nodeId)) {
+            return;
+        }
+        try {
+            heartbeatReceived = Math.max(heartbeatReceived, Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 하트비트 형식: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        resync();
+    }
+
+    // Redis의 blacklist:* 키를 스캔해 로컬 집합을 보정합니다. Pub/Sub 연결이 끊겼던 동안의 누락을 이 주기 안에 복구합니다.
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-ms:30000}", initialDelayString = "${jwt.blacklist.resync-ms:30000}")
+    public void resync() {
+        // 지난번 하트비트가 돌아오지 않았으면 구독이 조용히 끊긴 것으로 보고, 돌아올 때까지 Redis 직접 조회
+        long sent = heartbeatSent.get();
+        boolean subscriptionAlive = sent == 0 || heartbeatReceived >= sent;
+        if (!subscriptionAlive) {
+            ready = false;
+            log.warn("블랙리스트 채널 하트비트 미수신 - 구독 복구 전까지 Redis 직접 조회로 전환");
+        }
+        try {
+            long now = System.currentTimeMillis();
+            revoked.entrySet().removeIf(e -> e.getValue() <= now);
+
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(TokenService.BLACKLIST_PREFIX + "*")
+                    .count(1000)
+                    .build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    revoked.merge(TokenService.blacklistIdFromKey(cursor.next()), now + defaultTtlMillis, Math::max);
+                }
+            }
+            boolean withinLimit = revoked.size() <= maxEntries;
+            ready = withinLimit && subscriptionAlive;
+            if (!withinLimit) {
+                log.warn("블랙리스트 로컬 캐시 상한 초과({}건) - Redis 직접 조회로 전환", revoked.size());
+            }
+        } catch (Exception e) {
+            ready = false;
+            log.warn("블랙리스트 로컬 캐시 동기화 실패 - Redis 직접 조회로 전환: {}", e.getMessage());
+        }
+        sendHeartbeat();
+    }
+
+    // 다음 재동기화 때 돌아왔는지 확인할 하트비트를 자기 채널로 발행
+    private void sendHeartbeat() {
+        long sequence = heartbeatSent.incrementAndGet();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, HEARTBEAT_PREFIX + nodeId + ":" + sequence);
+        } catch (Exception e) {
+            // 발행도 못 하면 다음 재동기화에서 미수신으로 처리되어 Redis 직접 조회가 유지됨
+            log.warn("블랙리스트 하트비트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("ready", ready);
+        stats.put("heartbeatSent", heartbeatSent.get());
+        stats.put("heartbeatReceived", heartbeatReceived);
+        stats.put("size", revoked.size());
+        stats.put("localMisses", localMisses.sum());
+        stats.put("redisFallthroughs", redisFallthroughs.sum());
+        return stats;
+    }
+
+    private void record(String id, long expiresAt) {
+        revoked.merge(id, expiresAt, Math::max);
+        // 검증 결과 캐시 등 토큰 단위 로컬 캐시 정리
+        eventPublisher.publishEvent(new TokenBlacklistedEvent(id));
+        if (ready && revoked.size() > maxEntries) {
+            ready = false;
+            log.warn("블랙리스트 로컬 캐시 상한 초과({}건) - Redis 직접 조회로 전환", revoked.size());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package Readyplz.io.ReadyPlz.service;
 
+import Readyplz.io.ReadyPlz.util.VerifiedJwt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -13,9 +17,55 @@ import java.util.concurrent.TimeUnit;
 public class TokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistNearCache blacklistNearCache;
     private static final String ACCESS_TOKEN_PREFIX = "access_token:";
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    static final String BLACKLIST_PREFIX = "blacklist:";
+
+    // 액세스/리프레시 토큰을 한 번의 왕복으로 함께 저장
+    // KEYS[1]=access, KEYS[2]=refresh / ARGV[1]=access 토큰, ARGV[2]=access TTL(ms), ARGV[3]=refresh 토큰, ARGV[4]=refresh TTL(ms)
+    private static final RedisScript<Long> SAVE_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4]) " +
+            "return 1", Long.class);
+
+    // 저장된 리프레시 토큰이 제시된 토큰과 같을 때만 두 토큰을 교체 (compare-and-swap)
+    // ARGV[5]=클라이언트가 제시한 기존 리프레시 토큰
+    private static final RedisScript<Long> ROTATE_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[5] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4]) " +
+            "return 1", Long.class);
+
+    public enum RotationResult {
+        ROTATED,
+        // 저장된 토큰과 다름: 이미 다른 요청(탭)이 교체했거나 재사용/위조된 토큰
+        REUSE_DETECTED
+    }
+
+    // 로그인 시 액세스/리프레시 토큰 저장 (Redis 왕복 1회)
+    public void saveTokens(String username, String accessToken, long accessExpirationTime,
+                           String refreshToken, long refreshExpirationTime) {
+        redisTemplate.execute(SAVE_TOKENS_SCRIPT,
+                List.of(ACCESS_TOKEN_PREFIX + username, REFRESH_TOKEN_PREFIX + username),
+                accessToken, String.valueOf(accessExpirationTime),
+                refreshToken, String.valueOf(refreshExpirationTime));
+    }
+
+    /**
+     * 리프레시 토큰 Rotation을 서버 측 스크립트 하나로 원자적으로 수행합니다.
+     * 동시에 두 요청이 같은 리프레시 토큰으로 갱신하면 하나만 ROTATED, 나머지는 REUSE_DETECTED가 됩니다.
+     */
+    public RotationResult rotateTokens(String username, String presentedRefreshToken,
+                                       String newAccessToken, long accessExpirationTime,
+                                       String newRefreshToken, long refreshExpirationTime) {
+        Long result = redisTemplate.execute(ROTATE_TOKENS_SCRIPT,
+                List.of(ACCESS_TOKEN_PREFIX + username, REFRESH_TOKEN_PREFIX + username),
+                newAccessToken, String.valueOf(accessExpirationTime),
+                newRefreshToken, String.valueOf(refreshExpirationTime),
+                presentedRefreshToken);
+        return Long.valueOf(1L).equals(result) ? RotationResult.ROTATED : RotationResult.REUSE_DETECTED;
+    }
 
     // 액세스 토큰 저장 (Redis TTL 설정)
     public void saveAccessToken(String username, String token, long expirationTime) {
@@ -44,18 +94,34 @@ public class TokenService {
     }
 
     // 토큰 블랙리스트 추가 (로그아웃 시)
-    public void addToBlacklist(String token, long expirationTime) {
-        String key = BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "blacklisted", expirationTime, TimeUnit.MILLISECONDS);
-        // log.debug("토큰 블랙리스트 추가: {}", token.substring(0, Math.min(20, token.length())) + "..."); 
+    // 토큰 전체 대신 고정 길이 식별자(jti)를 키로 쓰고, TTL은 토큰의 남은 수명(exp - now)만큼만 유지
+    public void addToBlacklist(VerifiedJwt token) {
+        long remainingMillis = token.getRemainingMillis();
+        if (remainingMillis <= 0) {
+            return; // 이미 만료된 토큰은 서명 검증 단계에서 거부되므로 기록할 필요 없음
+        }
+        String key = BLACKLIST_PREFIX + token.getTokenId();
+        redisTemplate.opsForValue().set(key, "1", remainingMillis, TimeUnit.MILLISECONDS);
+        // 로컬 캐시에 기록하고 Pub/Sub으로 다른 노드에도 알림
+        blacklistNearCache.recordAndPublish(token.getTokenId(), remainingMillis);
+        // log.debug("토큰 블랙리스트 추가: {}", token.getTokenId());
     }
 
-    // 토큰이 블랙리스트에 있는지 확인 = 무효화 토큰인지 확인 
-    public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
+    // 토큰이 블랙리스트에 있는지 확인 = 무효화 토큰인지 확인 (tokenId = VerifiedJwt.getTokenId())
+    // 로컬 캐시에 없으면 Redis 왕복 없이 false, 있을 수 있는 경우에만 Redis로 확정
+    public boolean isBlacklisted(String tokenId) {
+        if (!blacklistNearCache.mightBeBlacklisted(tokenId)) {
+            return false;
+        }
+        String key = BLACKLIST_PREFIX + tokenId;
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
+    // Redis 블랙리스트 키 -> 로컬 캐시 식별자 (재동기화 스캔용)
+    static String blacklistIdFromKey(String key) {
+        return key.substring(BLACKLIST_PREFIX.length());
+    }
+
     // 사용자의 모든 토큰 삭제 (로그아웃 시)
     public void deleteUserTokens(String username) {
         String accessKey = ACCESS_TOKEN_PREFIX + username;
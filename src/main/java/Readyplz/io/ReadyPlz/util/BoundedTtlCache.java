@@ -0,0 +1,196 @@
+package Readyplz.io.ReadyPlz.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + 항목별 만료시간을 갖는 LRU 캐시입니다.
+ * 키 해시로 세그먼트를 나눠 세그먼트 단위로만 잠그기 때문에 Tomcat 워커 스레드가 동시에 접근해도 경합이 적습니다.
+ * 인증 경로(토큰 검증 결과, UserDetails, 보안 버전 등)의 로컬 캐시로 사용합니다.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long defaultTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BoundedTtlCache(int maxSize, long defaultTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        int perSegment = Math.max(1, (maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(perSegment, evictions);
+        }
+        this.defaultTtlMillis = defaultTtlMillis;
+    }
+
+    public V get(K key) {
+        V value = segmentFor(key).get(key, System.currentTimeMillis());
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlMillis);
+    }
+
+    // ttlMillis가 0 이하이면 저장하지 않습니다 (예: 이미 만료된 토큰)
+    public void put(K key, V value, long ttlMillis) {
+        if (key == null || value == null || ttlMillis <= 0) {
+            return;
+        }
+        long ttl = Math.min(ttlMillis, defaultTtlMillis);
+        segmentFor(key).put(key, value, System.currentTimeMillis() + ttl);
+    }
+
+    // 없거나 만료된 경우에만 loader로 만들어 기본 TTL로 저장, loader가 null이면 저장하지 않음 (세그먼트 잠금 안에서 수행되므로 loader는 가벼워야 합니다)
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        return segmentFor(key).computeIfAbsent(key, loader, now, now + defaultTtlMillis);
+    }
+
+    public void evict(K key) {
+        if (key != null) {
+            segmentFor(key).remove(key);
+        }
+    }
+
+    // 조건에 맞는 항목을 모두 제거합니다. 전체 순회이므로 로그아웃/계정 변경처럼 드문 이벤트에서만 사용합니다.
+    public void evictIf(BiPredicate<K, V> predicate) {
+        for (Segment<K, V> segment : segments) {
+            segment.removeIf(predicate);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    // 관리자 메트릭 노출용 스냅샷
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        private Segment(int capacity, LongAdder evictions) {
+            // accessOrder=true: 조회할 때마다 맨 뒤로 이동 -> 가장 오래 사용되지 않은 항목이 먼저 제거됨
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key, long now) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                map.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(K key, V value, long expiresAt) {
+            map.put(key, new Entry<>(value, expiresAt));
+        }
+
+        synchronized V computeIfAbsent(K key, Function<K, V> loader, long now, long expiresAt) {
+            Entry<V> entry = map.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.value;
+            }
+            V value = loader.apply(key);
+            if (value == null) {
+                // 만료된 항목이 남아 자리를 차지하지 않도록 제거
+                map.remove(key);
+                return null;
+            }
+            map.put(key, new Entry<>(value, expiresAt));
+            return value;
+        }
+
+        synchronized void remove(K key) {
+            map.remove(key);
+        }
+
+        synchronized void removeIf(BiPredicate<K, V> predicate) {
+            Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry<V>> e = it.next();
+                if (predicate.test(e.getKey(), e.getValue().value)) {
+                    it.remove();
+                }
+            }
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 테이블 전체를 메모리에 올린 불변 카탈로그입니다.
+ * 게임은 이름 순(대소문자 무시, 같으면 id 순)으로 정렬되어 있고, 정렬 순번(rank)을 인덱스로 하는 병렬 배열에 저장됩니다.
+ * 이름과 이미지 URL은 하나의 UTF-8 바이트 배열(StringPool)에 모아 두어 게임마다 String 객체를 들고 있지 않습니다.
+ * 이름 부분 문자열 검색용 트라이그램 색인(GameNameTrigramIndex)을 함께 가집니다.
+ * 생성 후에는 변경되지 않으므로 잠금 없이 여러 스레드가 동시에 읽을 수 있고, 갱신은 새 인스턴스로 통째 교체합니다.
+ * 열은 Buffer 뷰로 보관하므로 힙 배열로 만든 카탈로그와 바이너리 스냅샷 파일을 메모리 매핑한 카탈로그(GameCatalogSnapshot)가
+ * 같은 방식으로 읽힙니다. 스냅샷에서 연 카탈로그는 이름 검색 색인 없이 시작하며 warmNameIndex()로 나중에 채웁니다.
+ */
+public final class GameCatalog {
+
+    // 이름 정렬 기준 (DB 기본 collation처럼 대소문자 무시, 동률은 id 순)
+    public static final Comparator<GameSummaryDTO> NAME_ORDER = Comparator
+            .comparing(GameSummaryDTO::getName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(GameSummaryDTO::getId);
+
+    private static final short UNKNOWN_YEAR = 0;
+    private static final int NO_STRING = -1;
+
+    // rank(이름 순번) -> 값
+    final LongBuffer ids;
+    final IntBuffer appids;
+    final ShortBuffer releaseYears;
+    final IntBuffer nameRefs;
+    final IntBuffer imageRefs;
+    final StringPool pool;
+
+    // id 오름차순 정렬된 id와 그 rank (id 조회용 이진 탐색)
+    final LongBuffer sortedIds;
+    final IntBuffer rankBySortedId;
+
+    // 이름 부분 문자열 검색 색인. 스냅샷에서 연 경우 warmNameIndex() 전까지 null (그동안 검색은 전체 순회)
+    private volatile GameNameTrigramIndex nameIndex;
+    // 내용 해시 (처음 요청 시 계산)
+    private volatile String contentVersion;
+
+    GameCatalog(LongBuffer ids, IntBuffer appids, ShortBuffer releaseYears, IntBuffer nameRefs, IntBuffer imageRefs,
+                StringPool pool, LongBuffer sortedIds, IntBuffer rankBySortedId, GameNameTrigramIndex nameIndex) {
+        this.ids = ids;
+        this.appids = appids;
+        this.releaseYears = releaseYears;
+        this.nameRefs = nameRefs;
+        this.imageRefs = imageRefs;
+        this.pool = pool;
+        this.sortedIds = sortedIds;
+        this.rankBySortedId = rankBySortedId;
+        this.nameIndex = nameIndex;
+    }
+
+    public static GameCatalog empty() {
+        return of(List.of());
+    }
+
+    // 순서와 무관한 게임 목록으로 카탈로그를 만듭니다. 이름/id가 null인 항목은 제외합니다.
+    public static GameCatalog of(Collection<GameSummaryDTO> games) {
+        return of(games, null);
+    }
+
+    /**
+     * previous가 있으면 이름 검색 색인을 처음부터 만들지 않고 previous의 색인을 확장합니다.
+     * 기존 게임이 삭제되었거나 이름이 바뀐 경우에는 전체를 다시 만듭니다.
+     */
+    public static GameCatalog of(Collection<GameSummaryDTO> games, GameCatalog previous) {
+        List<GameSummaryDTO> sorted = new ArrayList<>(games.size());
+        for (GameSummaryDTO game : games) {
+            if (game.getId() != null && game.getName() != null) {
+                sorted.add(game);
+            }
+        }
+        sorted.sort(NAME_ORDER);
+
+        int size = sorted.size();
+        long[] ids = new long[size];
+        int[] appids = new int[size];
+        short[] releaseYears = new short[size];
+        int[] nameRefs = new int[size];
+        int[] imageRefs = new int[size];
+        String[] names = new String[size];
+        StringPool.Builder poolBuilder = new StringPool.Builder();
+
+        for (int rank = 0; rank < size; rank++) {
+            GameSummaryDTO game = sorted.get(rank);
+            ids[rank] = game.getId();
+            appids[rank] = game.getAppid() != null ? game.getAppid() : 0;
+            releaseYears[rank] = game.getReleaseYear() != null ? game.getReleaseYear().shortValue() : UNKNOWN_YEAR;
+            names[rank] = game.getName();
+            nameRefs[rank] = poolBuilder.add(game.getName());
+            imageRefs[rank] = game.getHeaderImageUrl() != null ? poolBuilder.add(game.getHeaderImageUrl()) : NO_STRING;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(rank -> ids[rank]));
+        long[] sortedIds = new long[size];
+        int[] rankBySortedId = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = ids[order[i]];
+            rankBySortedId[i] = order[i];
+        }
+
+        GameNameTrigramIndex nameIndex = previous != null
+                ? extendIndex(previous, names, sortedIds, rankBySortedId)
+                : null;
+        if (nameIndex == null) {
+            nameIndex = GameNameTrigramIndex.build(names);
+        }
+
+        return new GameCatalog(LongBuffer.wrap(ids), IntBuffer.wrap(appids), ShortBuffer.wrap(releaseYears),
+                IntBuffer.wrap(nameRefs), IntBuffer.wrap(imageRefs), poolBuilder.build(),
+                LongBuffer.wrap(sortedIds), IntBuffer.wrap(rankBySortedId), nameIndex);
+    }
+
+    // 추가만 있었던 경우에만 확장, 그 외(삭제/이름 변경/순서 변화, 이전 색인 없음)는 null을 반환해 전체 재구성
+    private static GameNameTrigramIndex extendIndex(GameCatalog previous, String[] names,
+                                                    long[] sortedIds, int[] rankBySortedId) {
+        GameNameTrigramIndex previousIndex = previous.nameIndex;
+        if (previousIndex == null || previous.size() > names.length) {
+            return null;
+        }
+        int[] newRankOfOld = new int[previous.size()];
+        boolean[] existing = new boolean[names.length];
+        int lastRank = -1;
+        for (int oldRank = 0; oldRank < previous.size(); oldRank++) {
+            int index = Arrays.binarySearch(sortedIds, previous.idAt(oldRank));
+            if (index < 0) {
+                return null;
+            }
+            int newRank = rankBySortedId[index];
+            if (newRank <= lastRank
+                    || !previousIndex.lowerNameAt(oldRank).equals(GameNameTrigramIndex.normalize(names[newRank]))) {
+                return null;
+            }
+            newRankOfOld[oldRank] = newRank;
+            existing[newRank] = true;
+            lastRank = newRank;
+        }
+        int[] addedRanks = new int[names.length - previous.size()];
+        int count = 0;
+        for (int rank = 0; rank < names.length; rank++) {
+            if (!existing[rank]) {
+                addedRanks[count++] = rank;
+            }
+        }
+        return previousIndex.extend(newRankOfOld, names, addedRanks);
+    }
+
+    /**
+     * 이름 검색 색인이 없으면(스냅샷에서 연 경우) 만듭니다. 여러 번 호출해도 한 번만 만듭니다.
+     * 카탈로그 데이터는 바뀌지 않고 색인만 붙으므로 참조를 교체할 필요가 없습니다.
+     */
+    public void warmNameIndex() {
+        if (nameIndex != null) {
+            return;
+        }
+        synchronized (this) {
+            if (nameIndex == null) {
+                String[] names = new String[size()];
+                for (int rank = 0; rank < names.length; rank++) {
+                    names[rank] = nameAt(rank);
+                }
+                nameIndex = GameNameTrigramIndex.build(names);
+            }
+        }
+    }
+
+    /**
+     * 카탈로그 내용(게임별 id, appid, 출시 연도, 이름, 이미지 URL과 순서)의 64비트 FNV-1a 해시 (16진수).
+     * 같은 내용이면 어느 노드에서 어떻게(DB/스냅샷 파일) 만들었든 같은 값이라 ETag의 카탈로그 버전으로 씁니다.
+     * 처음 호출할 때 한 번 전체를 훑어 계산합니다 (동시에 호출되면 같은 값을 두 번 계산할 수 있음).
+     */
+    public String contentVersion() {
+        String version = contentVersion;
+        if (version == null) {
+            long hash = 0xcbf29ce484222325L;
+            for (int rank = 0; rank < size(); rank++) {
+                hash = mix(hash, ids.get(rank));
+                hash = mix(hash, appids.get(rank));
+                hash = mix(hash, releaseYears.get(rank));
+                hash = mixString(hash, nameRefs.get(rank));
+                hash = mixString(hash, imageRefs.get(rank));
+            }
+            version = Long.toHexString(hash);
+            contentVersion = version;
+        }
+        return version;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 문자열 바이트와 길이 (없는 문자열은 길이 -1)
+    private long mixString(long hash, int ref) {
+        if (ref == NO_STRING) {
+            return mix(hash, NO_STRING);
+        }
+        int start = pool.offsets.get(ref);
+        int end = pool.offsets.get(ref + 1);
+        hash = mix(hash, end - start);
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ (pool.data.get(i) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public boolean isNameIndexReady() {
+        return nameIndex != null;
+    }
+
+    // 메모리 매핑된 스냅샷 파일을 읽는 카탈로그인지
+    public boolean isMapped() {
+        return ids.isDirect();
+    }
+
+    public int size() {
+        return ids.limit();
+    }
+
+    public long idAt(int rank) {
+        return ids.get(rank);
+    }
+
+    public int appidAt(int rank) {
+        return appids.get(rank);
+    }
+
+    public String nameAt(int rank) {
+        return pool.get(nameRefs.get(rank));
+    }
+
+    public String headerImageUrlAt(int rank) {
+        int ref = imageRefs.get(rank);
+        return ref == NO_STRING ? null : pool.get(ref);
+    }
+
+    public Integer releaseYearAt(int rank) {
+        short year = releaseYears.get(rank);
+        return year == UNKNOWN_YEAR ? null : (int) year;
+    }
+
+    // id의 이름 순번, 없으면 -1
+    public int rankOfId(long id) {
+        int low = 0;
+        int high = sortedIds.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = sortedIds.get(mid);
+            if (value < id) {
+                low = mid + 1;
+            } else if (value > id) {
+                high = mid - 1;
+            } else {
+                return rankBySortedId.get(mid);
+            }
+        }
+        return -1;
+    }
+
+    public GameSummaryDTO summaryAt(int rank) {
+        return new GameSummaryDTO(idAt(rank), appidAt(rank), nameAt(rank), headerImageUrlAt(rank), releaseYearAt(rank));
+    }
+
+    // 이름 순 [offset, offset + limit) 구간
+    public List<GameSummaryDTO> slice(long offset, int limit) {
+        if (offset >= size() || limit <= 0) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min((long) size(), offset + limit);
+        List<GameSummaryDTO> result = new ArrayList<>(to - from);
+        for (int rank = from; rank < to; rank++) {
+            result.add(summaryAt(rank));
+        }
+        return result;
+    }
+
+    /**
+     * 정렬 키 (name, id) 기준 이진 탐색.
+     * strictlyAfter면 키보다 큰 첫 rank, 아니면 키 이상인 첫 rank (없으면 size)
+     * 커서의 게임이 그사이 삭제되었어도 위치를 찾을 수 있도록 id 조회가 아닌 키 비교로 찾습니다.
+     */
+    public int seek(String name, long id, boolean strictlyAfter) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = String.CASE_INSENSITIVE_ORDER.compare(nameAt(mid), name);
+            if (cmp == 0) {
+                cmp = Long.compare(idAt(mid), id);
+            }
+            if (cmp < 0 || (strictlyAfter && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public GameCursor cursorAt(int rank) {
+        return new GameCursor(idAt(rank), nameAt(rank));
+    }
+
+    // 이름에 keyword가 포함된 게임의 rank (이름 순), LIKE '%keyword%'와 같은 결과
+    public int[] searchByName(String keyword) {
+        GameNameTrigramIndex index = nameIndex;
+        if (index != null) {
+            return index.search(keyword);
+        }
+        // 색인을 만드는 동안(스냅샷으로 기동 직후)만 전체 순회
+        String needle = GameNameTrigramIndex.normalize(keyword);
+        int[] matches = new int[16];
+        int count = 0;
+        for (int rank = 0; rank < size(); rank++) {
+            if (GameNameTrigramIndex.normalize(nameAt(rank)).contains(needle)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = rank;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // ranks[offset, offset + limit) 구간
+    public List<GameSummaryDTO> slice(int[] ranks, long offset, int limit) {
+        if (offset >= ranks.length || limit <= 0) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min((long) ranks.length, offset + limit);
+        List<GameSummaryDTO> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(summaryAt(ranks[i]));
+        }
+        return result;
+    }
+
+    // 유사도 순 rank 목록 (이름 순이 아님). 색인을 만드는 중이면 빈 결과
+    public int[] fuzzySearchByName(String keyword, int limit, double minSimilarity, long budgetNanos) {
+        GameNameTrigramIndex index = nameIndex;
+        return index != null ? index.similar(keyword, limit, minSimilarity, budgetNanos) : new int[0];
+    }
+
+    public int trigramCount() {
+        GameNameTrigramIndex index = nameIndex;
+        return index != null ? index.trigramCount() : 0;
+    }
+
+    // 대략적인 메모리 사용량(바이트, 매핑된 경우 파일 페이지 포함) - 모니터링용
+    public long estimatedBytes() {
+        GameNameTrigramIndex index = nameIndex;
+        long perGame = Long.BYTES + Integer.BYTES + Short.BYTES + Integer.BYTES * 2L + Long.BYTES + Integer.BYTES;
+        return perGame * size() + pool.estimatedBytes() + (index != null ? index.estimatedBytes() : 0);
+    }
+
+    /**
+     * 문자열을 UTF-8로 이어 붙인 바이트 배열 + 시작 오프셋 배열입니다.
+     * 같은 문자열(중복 이미지 URL 등)은 한 번만 저장합니다. 조회 시마다 String을 새로 만듭니다.
+     */
+    static final class StringPool {
+        final ByteBuffer data;
+        final IntBuffer offsets;
+
+        StringPool(ByteBuffer data, IntBuffer offsets) {
+            this.data = data;
+            this.offsets = offsets;
+        }
+
+        String get(int ref) {
+            int start = offsets.get(ref);
+            int length = offsets.get(ref + 1) - start;
+            if (data.hasArray()) {
+                return new String(data.array(), data.arrayOffset() + start, length, StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            data.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int count() {
+            return offsets.limit() - 1;
+        }
+
+        long estimatedBytes() {
+            return data.limit() + (long) offsets.limit() * Integer.BYTES;
+        }
+
+        static final class Builder {
+            private final Map<String, Integer> refs = new HashMap<>();
+            private final List<byte[]> entries = new ArrayList<>();
+            private int totalBytes = 0;
+
+            int add(String value) {
+                Integer existing = refs.get(value);
+                if (existing != null) {
+                    return existing;
+                }
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                int ref = entries.size();
+                entries.add(bytes);
+                refs.put(value, ref);
+                totalBytes += bytes.length;
+                return ref;
+            }
+
+            StringPool build() {
+                byte[] data = new byte[totalBytes];
+                int[] offsets = new int[entries.size() + 1];
+                int position = 0;
+                for (int i = 0; i < entries.size(); i++) {
+                    byte[] bytes = entries.get(i);
+                    offsets[i] = position;
+                    System.arraycopy(bytes, 0, data, position, bytes.length);
+                    position += bytes.length;
+                }
+                offsets[entries.size()] = position;
+                return new StringPool(ByteBuffer.wrap(data), IntBuffer.wrap(offsets));
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package Readyplz.io.ReadyPlz.util;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * GameCatalog를 고정 폭 열 + 문자열 힙 형태의 바이너리 파일로 저장하고, 메모리 매핑으로 다시 여는 스냅샷입니다.
+ * 매핑한 파일의 열을 그대로 카탈로그의 Buffer 뷰로 쓰므로 여는 비용은 게임 수와 무관하고, 실제로 읽는 페이지만 디스크에서 올라옵니다.
+ *
+ * 형식 (리틀 엔디언, 각 구간은 8바이트 정렬):
+ * 헤더 magic "RPZC", 형식 버전, 생성 시각, 게임 수 n, 문자열 수 m, 문자열 힙 크기, 지문 길이, 지문(UTF-8)
+ * 열 ids long[n], sortedIds long[n], appids int[n], nameRefs int[n], imageRefs int[n], rankBySortedId int[n],
+ *    문자열 시작 오프셋 int[m + 1], releaseYears short[n], 문자열 힙 byte[]
+ * 지문은 스냅샷을 만들 때의 DB 상태 요약이며, 기동 시 DB와 비교해 다르면 스냅샷을 버리고 DB에서 다시 만듭니다.
+ */
+public final class GameCatalogSnapshot {
+
+    private static final int MAGIC = 0x435A5052; // "RPZC" (리틀 엔디언)
+    // 형식이 바뀌면 올림. 다른 버전의 파일은 읽지 않음
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    private final GameCatalog catalog;
+    private final String fingerprint;
+    private final long createdAt;
+    private final long fileBytes;
+
+    private GameCatalogSnapshot(GameCatalog catalog, String fingerprint, long createdAt, long fileBytes) {
+        this.catalog = catalog;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+        this.fileBytes = fileBytes;
+    }
+
+    public GameCatalog getCatalog() {
+        return catalog;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    /**
+     * 카탈로그를 파일로 저장하고 쓴 바이트 수를 반환합니다.
+     * 임시 파일에 다 쓴 뒤 이름을 바꾸므로, 이미 매핑해 쓰고 있는 이전 파일이나 동시에 여는 쪽이 반쯤 쓴 파일을 보지 않습니다.
+     */
+    public static long write(GameCatalog catalog, String fingerprint, Path path) throws IOException {
+        int n = catalog.size();
+        int m = catalog.pool.count();
+        int heapBytes = catalog.pool.data.limit();
+        byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+
+        long total = align(HEADER_BYTES + fingerprintBytes.length)
+                + align(8L * n) * 2 + align(4L * n) * 4 + align(4L * (m + 1)) + align(2L * n) + heapBytes;
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("게임 카탈로그 스냅샷이 너무 큽니다: " + total + " bytes");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(System.currentTimeMillis())
+                .putInt(n).putInt(m).putInt(heapBytes).putInt(fingerprintBytes.length)
+                .put(fingerprintBytes);
+        pad(out);
+        out.asLongBuffer().put(rewound(catalog.ids));
+        skip(out, 8L * n);
+        out.asLongBuffer().put(rewound(catalog.sortedIds));
+        skip(out, 8L * n);
+        out.asIntBuffer().put(rewound(catalog.appids));
+        skip(out, 4L * n);
+        out.asIntBuffer().put(rewound(catalog.nameRefs));
+        skip(out, 4L * n);
+        out.asIntBuffer().put(rewound(catalog.imageRefs));
+        skip(out, 4L * n);
+        out.asIntBuffer().put(rewound(catalog.rankBySortedId));
+        skip(out, 4L * n);
+        out.asIntBuffer().put(rewound(catalog.pool.offsets));
+        skip(out, 4L * (m + 1));
+        out.asShortBuffer().put(rewound(catalog.releaseYears));
+        skip(out, 2L * n);
+        out.put(rewound(catalog.pool.data));
+        out.flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return total;
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑해 카탈로그를 엽니다 (이름 검색 색인은 없는 상태).
+     * 형식이 맞지 않으면 IOException
+     */
+    public static GameCatalogSnapshot map(Path path) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (file.limit() < HEADER_BYTES || file.getInt(0) != MAGIC) {
+            throw new IOException("게임 카탈로그 스냅샷 파일이 아닙니다: " + path);
+        }
+        int version = file.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 게임 카탈로그 스냅샷 버전: " + version);
+        }
+        long createdAt = file.getLong(8);
+        int n = file.getInt(16);
+        int m = file.getInt(20);
+        int heapBytes = file.getInt(24);
+        int fingerprintLength = file.getInt(28);
+        if (n < 0 || m < 0 || heapBytes < 0 || fingerprintLength < 0) {
+            throw new IOException("손상된 게임 카탈로그 스냅샷: " + path);
+        }
+        long expected = align(HEADER_BYTES + (long) fingerprintLength)
+                + align(8L * n) * 2 + align(4L * n) * 4 + align(4L * (m + 1)) + align(2L * n) + heapBytes;
+        if (expected != file.limit()) {
+            throw new IOException("게임 카탈로그 스냅샷 크기가 맞지 않습니다: " + path);
+        }
+
+        byte[] fingerprintBytes = new byte[fingerprintLength];
+        file.get(HEADER_BYTES, fingerprintBytes);
+        int position = (int) align(HEADER_BYTES + (long) fingerprintLength);
+
+        LongBuffer ids = section(file, position, 8L * n).asLongBuffer();
+        position += align(8L * n);
+        LongBuffer sortedIds = section(file, position, 8L * n).asLongBuffer();
+        position += align(8L * n);
+        IntBuffer appids = section(file, position, 4L * n).asIntBuffer();
+        position += align(4L * n);
+        IntBuffer nameRefs = section(file, position, 4L * n).asIntBuffer();
+        position += align(4L * n);
+        IntBuffer imageRefs = section(file, position, 4L * n).asIntBuffer();
+        position += align(4L * n);
+        IntBuffer rankBySortedId = section(file, position, 4L * n).asIntBuffer();
+        position += align(4L * n);
+        IntBuffer offsets = section(file, position, 4L * (m + 1)).asIntBuffer();
+        position += align(4L * (m + 1));
+        ShortBuffer releaseYears = section(file, position, 2L * n).asShortBuffer();
+        position += align(2L * n);
+        ByteBuffer heap = section(file, position, heapBytes);
+
+        GameCatalog catalog = new GameCatalog(ids, appids, releaseYears, nameRefs, imageRefs,
+                new GameCatalog.StringPool(heap, offsets), sortedIds, rankBySortedId, null);
+        return new GameCatalogSnapshot(catalog, new String(fingerprintBytes, StandardCharsets.UTF_8),
+                createdAt, file.limit());
+    }
+
+    private static ByteBuffer section(ByteBuffer file, int position, long length) {
+        return file.slice(position, (int) length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static void pad(ByteBuffer out) {
+        out.position((int) align(out.position()));
+    }
+
+    private static void skip(ByteBuffer out, long bytes) {
+        out.position((int) align(out.position() + bytes));
+    }
+
+    // 처음부터 끝(limit)까지 읽도록 위치만 되돌린 복사본 (원본 Buffer의 위치는 건드리지 않음)
+    private static <B extends Buffer> B rewound(B buffer) {
+        @SuppressWarnings("unchecked")
+        B copy = (B) buffer.duplicate();
+        copy.rewind();
+        return copy;
+    }
+}
@@ -0,0 +1,72 @@
+package Readyplz.io.ReadyPlz.util;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게임 목록 키셋(seek) 페이지네이션 커서입니다. 정렬 키 (name, id)를 "id:name" 형태로 Base64url 인코딩합니다.
+ * 인기순 커서는 보유 회원 수를 함께 담아 "p보유수:id:name" 형태로 인코딩합니다.
+ * OFFSET 없이 "이 게임 다음/이전"부터 읽으므로 깊은 페이지도 첫 페이지와 같은 비용입니다.
+ */
+@Getter
+public final class GameCursor {
+
+    private static final char POPULAR_PREFIX = 'p';
+
+    private final long id;
+    private final String name;
+    // 인기순 커서일 때만 값이 있음
+    private final Integer ownerCount;
+
+    public GameCursor(long id, String name) {
+        this(id, name, null);
+    }
+
+    private GameCursor(long id, String name, Integer ownerCount) {
+        this.id = id;
+        this.name = name;
+        this.ownerCount = ownerCount;
+    }
+
+    public static GameCursor popular(long id, String name, int ownerCount) {
+        return new GameCursor(id, name, ownerCount);
+    }
+
+    public boolean isPopular() {
+        return ownerCount != null;
+    }
+
+    public String encode() {
+        String raw = (ownerCount != null ? POPULAR_PREFIX + String.valueOf(ownerCount) + ":" : "") + id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 잘못된 커서는 null (첫 페이지로 처리)
+    public static GameCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            Integer ownerCount = null;
+            if (!decoded.isEmpty() && decoded.charAt(0) == POPULAR_PREFIX) {
+                int countSep = decoded.indexOf(':');
+                if (countSep <= 1) {
+                    return null;
+                }
+                ownerCount = Integer.parseInt(decoded.substring(1, countSep));
+                decoded = decoded.substring(countSep + 1);
+            }
+            int sep = decoded.indexOf(':'); // 이름에는 ':'가 있을 수 있으므로 첫 번째 구분자 기준
+            if (sep <= 0) {
+                return null;
+            }
+            return new GameCursor(Long.parseLong(decoded.substring(0, sep)), decoded.substring(sep + 1), ownerCount);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
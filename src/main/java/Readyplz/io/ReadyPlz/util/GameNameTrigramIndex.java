@@ -0,0 +1,373 @@
+package Readyplz.io.ReadyPlz.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 게임 이름 부분 문자열 검색용 트라이그램(3글자) 역색인입니다. GameCatalog와 한 쌍으로 만들어지는 불변 객체입니다.
+ * 각 트라이그램마다 그 트라이그램을 포함하는 게임의 이름 순번(rank) 목록을 오름차순으로 보관합니다.
+ * 검색어의 트라이그램 목록들을 교집합한 뒤 실제 포함 여부를 확인하므로 결과는 LIKE '%검색어%'(대소문자 무시)와 같고,
+ * rank 순서 그대로가 이름 순 정렬이 되어 별도 정렬이 필요 없습니다. 3글자 미만 검색어는 전체 이름을 순회합니다.
+ * 같은 목록으로 트라이그램 유사도 기반의 오타 허용 검색(similar)도 제공합니다.
+ */
+public final class GameNameTrigramIndex {
+
+    private static final int[] EMPTY = new int[0];
+    // similar()의 점수 배열을 재사용할 최대 개수 (동시에 더 많이 호출되면 그만큼은 새로 할당)
+    private static final int SCRATCH_POOL_SIZE = 4;
+    // 시간 예산을 확인하는 간격 (목록 원소 수)
+    private static final int BUDGET_CHECK_INTERVAL = 1024;
+
+    // rank -> 소문자 이름 (후보 검증 및 짧은 검색어 순회용)
+    private final String[] lowerNames;
+    // 트라이그램 키 -> rank 오름차순 목록 (박싱 없는 오픈 어드레싱 표, 선형 탐사)
+    private final long[] postingKeys;
+    private final int[][] postingLists;
+    private final int trigramCount;
+    // similar()용 작업 공간. 쓴 칸만 0으로 되돌려 반납하므로 호출마다 rank 수만큼 할당/초기화하지 않음
+    private final BlockingQueue<Scratch> scratchPool = new ArrayBlockingQueue<>(SCRATCH_POOL_SIZE);
+
+    private GameNameTrigramIndex(String[] lowerNames, Map<Long, int[]> postings) {
+        this.lowerNames = lowerNames;
+        this.trigramCount = postings.size();
+        // 빈 칸은 목록이 null인 것으로 구분 (키 0도 유효한 트라이그램일 수 있음)
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, postings.size() * 2 - 1)) << 1);
+        this.postingKeys = new long[capacity];
+        this.postingLists = new int[capacity][];
+        int mask = capacity - 1;
+        for (Map.Entry<Long, int[]> entry : postings.entrySet()) {
+            long key = entry.getKey();
+            int slot = LongHashSet.mix(key) & mask;
+            while (postingLists[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            postingKeys[slot] = key;
+            postingLists[slot] = entry.getValue();
+        }
+    }
+
+    // 정렬된 이름 배열(rank 순)로 전체 색인을 만듭니다.
+    static GameNameTrigramIndex build(String[] namesByRank) {
+        String[] lowerNames = new String[namesByRank.length];
+        Map<Long, IntList> lists = new HashMap<>();
+        for (int rank = 0; rank < namesByRank.length; rank++) {
+            lowerNames[rank] = normalize(namesByRank[rank]);
+            addTrigrams(lists, lowerNames[rank], rank);
+        }
+        return new GameNameTrigramIndex(lowerNames, freeze(lists));
+    }
+
+    /**
+     * 이전 색인을 새 카탈로그에 맞게 확장합니다 (게임 추가만 있는 경우).
+     * 기존 게임끼리의 이름 순서는 그대로이므로 oldRank -> newRank 변환은 단조 증가이고, 변환한 목록도 정렬이 유지됩니다.
+     * 따라서 기존 이름을 다시 토큰화하지 않고 목록을 변환한 뒤 새 게임의 목록만 병합합니다.
+     * @param newRankOfOld 기존 rank별 새 rank
+     * @param addedRanks 새로 추가된 게임의 새 rank (오름차순)
+     */
+    GameNameTrigramIndex extend(int[] newRankOfOld, String[] newNamesByRank, int[] addedRanks) {
+        String[] lowerNames = new String[newNamesByRank.length];
+        for (int oldRank = 0; oldRank < newRankOfOld.length; oldRank++) {
+            lowerNames[newRankOfOld[oldRank]] = this.lowerNames[oldRank];
+        }
+        Map<Long, IntList> added = new HashMap<>();
+        for (int rank : addedRanks) {
+            lowerNames[rank] = normalize(newNamesByRank[rank]);
+            addTrigrams(added, lowerNames[rank], rank);
+        }
+
+        Map<Long, int[]> merged = new HashMap<>(Math.max(16, (int) ((trigramCount + added.size()) / 0.75f) + 1));
+        for (int slot = 0; slot < postingLists.length; slot++) {
+            int[] oldList = postingLists[slot];
+            if (oldList == null) {
+                continue;
+            }
+            int[] remapped = new int[oldList.length];
+            for (int i = 0; i < oldList.length; i++) {
+                remapped[i] = newRankOfOld[oldList[i]];
+            }
+            IntList addition = added.remove(postingKeys[slot]);
+            merged.put(postingKeys[slot], addition == null ? remapped : mergeSorted(remapped, addition.toArray()));
+        }
+        for (Map.Entry<Long, IntList> entry : added.entrySet()) {
+            merged.put(entry.getKey(), entry.getValue().toArray());
+        }
+        return new GameNameTrigramIndex(lowerNames, merged);
+    }
+
+    /**
+     * 이름에 검색어가 포함된 게임의 rank 목록(오름차순 = 이름 순)을 반환합니다.
+     */
+    public int[] search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return EMPTY;
+        }
+        if (query.length() < 3) {
+            return scan(query);
+        }
+
+        LongHashSet keys = new LongHashSet(query.length());
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            long key = key(query, i);
+            if (!keys.add(key)) {
+                continue;
+            }
+            int[] list = postings(key);
+            if (list == null) {
+                return EMPTY; // 어떤 이름에도 없는 트라이그램
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 목록부터 교집합해 중간 결과를 작게 유지
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // 트라이그램이 모두 있어도 연속해서 나타나지 않을 수 있으므로 실제 포함 여부 확인
+        int count = 0;
+        int[] matches = new int[candidates.length];
+        for (int rank : candidates) {
+            if (query.length() == 3 || lowerNames[rank].contains(query)) {
+                matches[count++] = rank;
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * 오타 허용 검색: 검색어와 트라이그램을 많이 공유하는 이름의 rank를 유사도(Dice 계수) 높은 순으로 최대 limit개 반환합니다.
+     * 목록이 짧은(희소한) 트라이그램부터 일치 수를 누적하고, 시간 예산을 넘기면 그때까지 누적한 점수로 결과를 만듭니다.
+     * 유사도가 같으면 이름 순입니다.
+     */
+    public int[] similar(String keyword, int limit, double minSimilarity, long budgetNanos) {
+        String query = normalize(keyword).trim();
+        if (query.length() < 3 || limit <= 0) {
+            return EMPTY;
+        }
+        long startedAt = System.nanoTime();
+
+        LongHashSet keys = new LongHashSet(query.length());
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            long key = key(query, i);
+            if (keys.add(key)) {
+                int[] list = postings(key);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+        }
+        int queryGrams = keys.size();
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        Scratch scratch = scratchPool.poll();
+        if (scratch == null) {
+            scratch = new Scratch(new int[lowerNames.length], new IntList());
+        }
+        try {
+            return topSimilar(lists, scratch.hits(), scratch.touched(), queryGrams, limit, minSimilarity, startedAt, budgetNanos);
+        } finally {
+            scratch.reset();
+            scratchPool.offer(scratch);
+        }
+    }
+
+    private int[] topSimilar(List<int[]> lists, int[] hits, IntList touched, int queryGrams, int limit,
+                             double minSimilarity, long startedAt, long budgetNanos) {
+        int visited = 0;
+        accumulate:
+        for (int[] list : lists) {
+            for (int rank : list) {
+                if (hits[rank]++ == 0) {
+                    touched.add(rank);
+                }
+                // 흔한 트라이그램의 긴 목록 하나가 예산을 다 쓸 수 있으므로 목록 안에서도 확인
+                // 시작 시각과의 차이로 비교 (시작 시각 + 예산은 큰 예산에서 넘칠 수 있음)
+                if (++visited % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - startedAt > budgetNanos) {
+                    break accumulate;
+                }
+            }
+            if (System.nanoTime() - startedAt > budgetNanos) {
+                break;
+            }
+        }
+
+        // 상위 limit개만 삽입 정렬로 유지
+        int[] top = new int[limit];
+        double[] topScores = new double[limit];
+        int count = 0;
+        for (int i = 0; i < touched.size; i++) {
+            int rank = touched.values[i];
+            double score = 2.0 * hits[rank] / (queryGrams + Math.max(1, lowerNames[rank].length() - 2));
+            if (score < minSimilarity || (count == limit && !ranksBefore(score, rank, topScores[limit - 1], top[limit - 1]))) {
+                continue;
+            }
+            int pos = count < limit ? count++ : limit - 1;
+            while (pos > 0 && ranksBefore(score, rank, topScores[pos - 1], top[pos - 1])) {
+                top[pos] = top[pos - 1];
+                topScores[pos] = topScores[pos - 1];
+                pos--;
+            }
+            top[pos] = rank;
+            topScores[pos] = score;
+        }
+        return Arrays.copyOf(top, count);
+    }
+
+    private static boolean ranksBefore(double score, int rank, double otherScore, int otherRank) {
+        return score > otherScore || (score == otherScore && rank < otherRank);
+    }
+
+    // rank의 소문자 이름 (증분 확장 시 이름 변경 여부 확인용)
+    String lowerNameAt(int rank) {
+        return lowerNames[rank];
+    }
+
+    public int trigramCount() {
+        return trigramCount;
+    }
+
+    long estimatedBytes() {
+        long bytes = 16L + (long) postingKeys.length * Long.BYTES + 16L + (long) postingLists.length * 4;
+        for (int[] list : postingLists) {
+            if (list != null) {
+                bytes += 16L + (long) list.length * Integer.BYTES;
+            }
+        }
+        for (String name : lowerNames) {
+            bytes += 40L + name.length();
+        }
+        return bytes;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // 트라이그램의 rank 목록. 없으면 null
+    private int[] postings(long key) {
+        int mask = postingKeys.length - 1;
+        int slot = LongHashSet.mix(key) & mask;
+        int[] list;
+        while ((list = postingLists[slot]) != null) {
+            if (postingKeys[slot] == key) {
+                return list;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int[] scan(String query) {
+        IntList matches = new IntList();
+        for (int rank = 0; rank < lowerNames.length; rank++) {
+            if (lowerNames[rank].contains(query)) {
+                matches.add(rank);
+            }
+        }
+        return matches.toArray();
+    }
+
+    private static void addTrigrams(Map<Long, IntList> lists, String lowerName, int rank) {
+        for (int i = 0; i + 3 <= lowerName.length(); i++) {
+            IntList list = lists.computeIfAbsent(key(lowerName, i), k -> new IntList());
+            // 같은 이름 안의 중복 트라이그램은 한 번만 (rank는 증가 순으로 추가됨)
+            if (list.size == 0 || list.last() != rank) {
+                list.add(rank);
+            }
+        }
+    }
+
+    // 3개의 UTF-16 문자를 하나의 long 키로
+    private static long key(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    private static Map<Long, int[]> freeze(Map<Long, IntList> lists) {
+        Map<Long, int[]> frozen = new HashMap<>(Math.max(16, (int) (lists.size() / 0.75f) + 1));
+        for (Map.Entry<Long, IntList> entry : lists.entrySet()) {
+            frozen.put(entry.getKey(), entry.getValue().toArray());
+        }
+        return frozen;
+    }
+
+    // 짧은 목록을 기준으로 긴 목록에서 지수 탐색 + 이진 탐색
+    private static int[] intersect(int[] shorter, int[] longer) {
+        int[] result = new int[shorter.length];
+        int count = 0;
+        int from = 0;
+        for (int value : shorter) {
+            int bound = 1;
+            while (from + bound < longer.length && longer[from + bound] < value) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(longer, from, Math.min(longer.length, from + bound + 1), value);
+            if (index >= 0) {
+                result[count++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] mergeSorted(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            result[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            result[k++] = a[i++];
+        }
+        while (j < b.length) {
+            result[k++] = b[j++];
+        }
+        return result;
+    }
+
+    // rank별 일치 수와, 0이 아닌 칸의 rank 목록 (되돌릴 칸만 기록)
+    private record Scratch(int[] hits, IntList touched) {
+        void reset() {
+            for (int i = 0; i < touched.size; i++) {
+                hits[touched.values[i]] = 0;
+            }
+            touched.size = 0;
+        }
+    }
+
+    // 박싱 없는 가변 int 목록 (색인 빌드, similar 작업 공간용)
+    static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int last() {
+            return values[size - 1];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package Readyplz.io.ReadyPlz.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 접두사 색인입니다. 정규화한 게임 이름을 정렬한 배열(평탄화한 트라이)이라
+ * 접두사에 해당하는 게임은 항상 연속 구간이 되고, 이진 탐색 두 번으로 구간을 찾습니다.
+ * 구간 안에서 보유 회원 수가 큰 순서의 상위 k개는 최대값 세그먼트 트리로 구하므로 O(k log n)입니다.
+ * 이름 배열은 불변이고 가중치(보유 회원 수)만 보유 관계 변경 시 갱신됩니다.
+ * 조회끼리는 동시에 실행되고, 가중치 갱신만 읽기/쓰기 잠금의 쓰기 잠금으로 조회와 배타적으로 실행됩니다.
+ */
+public final class GameSuggestIndex {
+
+    // 위치(정규화 이름 순) -> 값
+    private final String[] keys;
+    private final int[] catalogRanks;
+    // 카탈로그 rank -> 위치
+    private final int[] positionOfRank;
+
+    // 세그먼트 트리: 노드별 구간 최대 가중치의 위치 (잎은 size부터)
+    private final int[] weights;
+    private final int[] tree;
+    private final int leafBase;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private GameSuggestIndex(String[] keys, int[] catalogRanks, int[] positionOfRank, int[] weights) {
+        this.keys = keys;
+        this.catalogRanks = catalogRanks;
+        this.positionOfRank = positionOfRank;
+        this.weights = weights;
+        int base = 1;
+        while (base < Math.max(1, keys.length)) {
+            base <<= 1;
+        }
+        this.leafBase = base;
+        this.tree = new int[base * 2];
+        Arrays.fill(tree, -1);
+        for (int position = 0; position < keys.length; position++) {
+            tree[base + position] = position;
+        }
+        rebuildTree();
+    }
+
+    /**
+     * @param catalog 이름/rank를 가져올 카탈로그
+     * @param ownerCountByRank 카탈로그 rank별 보유 회원 수
+     */
+    public static GameSuggestIndex build(GameCatalog catalog, int[] ownerCountByRank) {
+        int size = catalog.size();
+        String[] normalized = new String[size];
+        Integer[] order = new Integer[size];
+        for (int rank = 0; rank < size; rank++) {
+            normalized[rank] = normalize(catalog.nameAt(rank));
+            order[rank] = rank;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer rank) -> normalized[rank]).thenComparingInt(rank -> rank));
+
+        String[] keys = new String[size];
+        int[] catalogRanks = new int[size];
+        int[] positionOfRank = new int[size];
+        int[] weights = new int[size];
+        for (int position = 0; position < size; position++) {
+            int rank = order[position];
+            keys[position] = normalized[rank];
+            catalogRanks[position] = rank;
+            positionOfRank[rank] = position;
+            weights[position] = ownerCountByRank[rank];
+        }
+        return new GameSuggestIndex(keys, catalogRanks, positionOfRank, weights);
+    }
+
+    // 소문자 + 글자/숫자 외 문자는 공백 하나로 ("Counter-Strike: GO" -> "counter strike go")
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화한 prefix로 시작하는 게임 중 가중치 상위 limit개의 카탈로그 rank (가중치 내림차순, 동률이면 이름 순)
+     */
+    public int[] topK(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0 || keys.length == 0) {
+            return new int[0];
+        }
+        int from = lowerBound(key);
+        int to = lowerBound(key + Character.MAX_VALUE); // exclusive
+        if (from >= to) {
+            return new int[0];
+        }
+        lock.readLock().lock();
+        try {
+            return collectTopK(from, to, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 위치 구간 [from, to)에서 가중치 상위 limit개 (읽기 잠금 안에서 호출)
+    private int[] collectTopK(int from, int to, int limit) {
+        // 구간 [l, r]의 최대 위치를 꺼내고 좌/우 구간을 다시 넣는 방식
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> compare(b[0], a[0]));
+        queue.add(new int[]{argMax(from, to - 1), from, to - 1});
+        List<Integer> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            int[] top = queue.poll();
+            int position = top[0];
+            result.add(catalogRanks[position]);
+            if (top[1] <= position - 1) {
+                queue.add(new int[]{argMax(top[1], position - 1), top[1], position - 1});
+            }
+            if (position + 1 <= top[2]) {
+                queue.add(new int[]{argMax(position + 1, top[2]), position + 1, top[2]});
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // 보유 회원 수 변경 (delta는 +1/-1 등), 범위를 벗어난 rank는 무시
+    public void adjustWeight(int catalogRank, int delta) {
+        if (catalogRank < 0 || catalogRank >= positionOfRank.length) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int position = positionOfRank[catalogRank];
+            weights[position] = Math.max(0, weights[position] + delta);
+            int node = (leafBase + position) >> 1;
+            while (node >= 1) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+                node >>= 1;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가중치 전체를 교체합니다 (카탈로그 rank별 보유 회원 수, 길이는 카탈로그 크기).
+     * 다른 노드의 보유 관계 변경처럼 이벤트로 받지 못한 변화를 DB 값으로 주기적으로 맞출 때 사용합니다. O(n)
+     */
+    public void resetWeights(int[] ownerCountByRank) {
+        lock.writeLock().lock();
+        try {
+            for (int position = 0; position < keys.length; position++) {
+                weights[position] = ownerCountByRank[catalogRanks[position]];
+            }
+            rebuildTree();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int weightOf(int catalogRank) {
+        lock.readLock().lock();
+        try {
+            return weights[positionOfRank[catalogRank]];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private void rebuildTree() {
+        for (int node = leafBase - 1; node >= 1; node--) {
+            tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+        }
+    }
+
+    private int argMax(int left, int right) {
+        int best = -1;
+        int l = left + leafBase;
+        int r = right + leafBase + 1;
+        while (l < r) {
+            if ((l & 1) == 1) {
+                best = better(best, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = better(best, tree[--r]);
+            }
+            l >>= 1;
+            r >>= 1;
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        return compare(a, b) >= 0 ? a : b;
+    }
+
+    // 가중치가 크면 앞, 같으면 위치(이름 순)가 작은 쪽이 앞
+    private int compare(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return Integer.compare(weights[a], weights[b]);
+        }
+        return Integer.compare(b, a);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -2,6 +2,7 @@ package Readyplz.io.ReadyPlz.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +12,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Slf4j
@@ -30,10 +32,31 @@ public class JwtTokenUtil {
     public static final String CLAIM_ROLES = "roles";
     public static final String CLAIM_TYPE = "type";
     public static final String TOKEN_TYPE_REFRESH = "refresh";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
     
-    
+    // 서명 키와 파서는 불변이고 스레드 안전하므로 기동 시 한 번만 생성해서 재사용합니다.
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
+    }
+
+    /**
+     * 서명과 만료를 한 번만 검증하고 필요한 클레임을 담은 VerifiedJwt를 반환합니다.
+     * 인증 필터와 WebSocket 인터셉터는 이 메서드 결과만 사용해 토큰을 다시 파싱하지 않습니다.
+     * @throws JwtException 서명 불일치, 만료, 형식 오류 시
+     */
+    public VerifiedJwt verify(String token) {
+        return VerifiedJwt.from(extractAllClaims(token), token);
     }
 
     
@@ -54,9 +77,7 @@ public class JwtTokenUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (JwtException e) {
@@ -70,20 +91,36 @@ public class JwtTokenUtil {
     }
 
     public String generateAccessToken(UserDetails userDetails) {
+        return generateAccessToken(userDetails, null);
+    }
+
+    // securityVersion이 있으면 sv 클레임으로 넣어 비밀번호 변경 시 토큰을 무효화할 수 있게 합니다.
+    public String generateAccessToken(UserDetails userDetails, Long securityVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(CLAIM_ROLES, userDetails.getAuthorities());
+        if (securityVersion != null) {
+            claims.put(CLAIM_SECURITY_VERSION, securityVersion);
+        }
         return createToken(claims, userDetails.getUsername(), accessTokenValidity);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
+        return generateRefreshToken(userDetails, null);
+    }
+
+    public String generateRefreshToken(UserDetails userDetails, Long securityVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(CLAIM_TYPE, TOKEN_TYPE_REFRESH);
+        if (securityVersion != null) {
+            claims.put(CLAIM_SECURITY_VERSION, securityVersion);
+        }
         return createToken(claims, userDetails.getUsername(), refreshTokenValidity);
     }
 
     private String createToken(Map<String, Object> claims, String subject, Long validity) {
         return Jwts.builder()
                 .claims(claims) 
+                .id(UUID.randomUUID().toString()) //토큰 식별자(jti) - 블랙리스트 키로 사용
                 .subject(subject) //토큰 주체
                 .issuedAt(new Date(System.currentTimeMillis())) //발행시간
                 .expiration(new Date(System.currentTimeMillis() + validity))
@@ -96,6 +133,13 @@ public class JwtTokenUtil {
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
 
+    // 이미 검증된 토큰에 대해서는 재파싱 없이 사용자 일치 여부와 만료만 확인합니다.
+    public boolean validateToken(VerifiedJwt jwt, UserDetails userDetails) {
+        return jwt.getSubject() != null
+                && jwt.getSubject().equals(userDetails.getUsername())
+                && !jwt.isExpired();
+    }
+
     public Boolean isRefreshToken(String token) {
         try {
             Claims claims = extractAllClaims(token);
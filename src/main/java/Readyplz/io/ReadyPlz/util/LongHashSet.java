@@ -0,0 +1,97 @@
+package Readyplz.io.ReadyPlz.util;
+
+/**
+ * long 값 전용 오픈 어드레싱(선형 탐사) 해시 집합입니다. 문자열 대신 64비트 해시를 담아 두는 용도로 씁니다.
+ * 추가만 지원하며, 다 채운 뒤에는 여러 스레드가 동시에 읽어도 됩니다 (채우는 중에는 스레드 안전하지 않음).
+ */
+public final class LongHashSet {
+
+    // 빈 칸 표시. 0 자체는 hasZero로 따로 기록
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] slots;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet(int expectedSize) {
+        slots = new long[capacityFor(expectedSize)];
+    }
+
+    // 새로 추가되었으면 true
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !hasZero;
+            hasZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        if (size + 1 > slots.length * LOAD_FACTOR) {
+            rehash(slots.length * 2);
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return hasZero;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long estimatedBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = slots;
+        slots = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int index = mix(value) & mask;
+                while (slots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    // 하위 비트만 슬롯 위치에 쓰이므로 상위 비트까지 섞음 (murmur3 fmix64). 같은 패키지의 long 키 표에서도 사용
+    static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87e3L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(16, Integer.highestOneBit(needed - 1) << 1);
+    }
+}
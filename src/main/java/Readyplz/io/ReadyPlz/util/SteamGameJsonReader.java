@@ -0,0 +1,77 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.dto.SteamGameDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게임 JSON 파일을 JsonParser 토큰 단위로 읽어 고정 크기 청크로 넘겨주는 스트리밍 리더입니다.
+ * 문서 전체를 트리나 리스트로 만들지 않으므로 메모리 사용량은 파일 크기와 무관하게 청크 하나 분량입니다.
+ * 지원 형식: 루트 배열 [{...}, ...] 또는 Steam Web API dump {"applist": {"apps": [{...}, ...]}}
+ */
+public final class SteamGameJsonReader {
+
+    private SteamGameJsonReader() {
+    }
+
+    /**
+     * 게임 항목을 chunkSize개씩 sink에 전달하고, 읽은 전체 항목 수를 반환합니다.
+     * sink에 전달한 리스트는 이후 재사용하지 않으므로 보관해도 됩니다. 입력 스트림은 호출하는 쪽에서 닫습니다.
+     */
+    public static long readInChunks(ObjectMapper objectMapper, InputStream inputStream, int chunkSize,
+                                    Consumer<List<SteamGameDTO>> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            moveToGameArray(parser);
+
+            long total = 0;
+            List<SteamGameDTO> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, SteamGameDTO.class));
+                total++;
+                if (chunk.size() == chunkSize) {
+                    sink.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalStateException("게임 배열에 객체가 아닌 항목이 있습니다: " + parser.currentToken());
+            }
+            if (!chunk.isEmpty()) {
+                sink.accept(chunk);
+            }
+            return total;
+        }
+    }
+
+    // 루트 배열이면 그대로, 객체이면 applist.apps 배열의 시작(START_ARRAY)까지 이동
+    private static void moveToGameArray(JsonParser parser) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (root == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (root != JsonToken.START_OBJECT || !moveToField(parser, "applist")
+                || parser.nextToken() != JsonToken.START_OBJECT || !moveToField(parser, "apps")
+                || parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("지원하지 않는 JSON 구조입니다. 배열 또는 {applist:{apps:[]}} 형식이어야 합니다.");
+        }
+    }
+
+    // 현재 객체 안에서 fieldName 필드 이름까지 이동 (다른 필드 값은 건너뜀). 없으면 false
+    private static boolean moveToField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (fieldName.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
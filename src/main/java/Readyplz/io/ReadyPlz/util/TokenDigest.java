@@ -0,0 +1,31 @@
+package Readyplz.io.ReadyPlz.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 로컬 캐시/메시지의 키로 사용할 고정 길이 SHA-256 다이제스트를 만듭니다.
+ */
+public final class TokenDigest {
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,78 @@
+package Readyplz.io.ReadyPlz.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증을 한 번 마친 JWT의 클레임 값 객체입니다.
+ * 필터/인터셉터가 같은 토큰을 여러 번 파싱하지 않도록 필요한 클레임(subject, 만료, 권한, 타입, 보안 버전, jti)을 미리 꺼내 둡니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedJwt {
+
+    private final String subject;
+    private final Date expiration;
+    private final List<String> roles;
+    private final String type;
+    // sv 클레임이 없는(이전에 발급된) 토큰은 null
+    private final Long securityVersion;
+    // 블랙리스트 식별자: jti 클레임
+    // jti가 없는(이전에 발급된) 토큰은 토큰 문자열 자체 -> 기존 blacklist:<토큰> 키와 그대로 호환, 최대 수명이 지나면 자연히 사라짐
+    private final String tokenId;
+
+    static VerifiedJwt from(Claims claims, String token) {
+        Object securityVersion = claims.get(JwtTokenUtil.CLAIM_SECURITY_VERSION);
+        String jti = claims.getId();
+        return new VerifiedJwt(
+                claims.getSubject(),
+                claims.getExpiration(),
+                extractRoles(claims.get(JwtTokenUtil.CLAIM_ROLES)),
+                claims.get(JwtTokenUtil.CLAIM_TYPE, String.class),
+                securityVersion instanceof Number number ? number.longValue() : null,
+                jti != null && !jti.isBlank() ? jti : token
+        );
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenUtil.TOKEN_TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired() {
+        return expiration == null || expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    // 남은 유효시간(ms), 이미 만료되었으면 0
+    public long getRemainingMillis() {
+        if (expiration == null) {
+            return 0L;
+        }
+        return Math.max(0L, expiration.getTime() - System.currentTimeMillis());
+    }
+
+    // generateAccessToken은 GrantedAuthority 컬렉션을 그대로 넣기 때문에 역직렬화 결과는 [{"authority":"ROLE_USER"}] 형태입니다.
+    // 문자열 배열로 발급된 토큰도 함께 허용합니다.
+    private static List<String> extractRoles(Object rawRoles) {
+        if (!(rawRoles instanceof Collection<?> collection)) {
+            return Collections.emptyList();
+        }
+        List<String> roles = new ArrayList<>(collection.size());
+        for (Object role : collection) {
+            if (role instanceof String name) {
+                roles.add(name);
+            } else if (role instanceof Map<?, ?> map && map.get("authority") != null) {
+                roles.add(String.valueOf(map.get("authority")));
+            }
+        }
+        return Collections.unmodifiableList(roles);
+    }
+}
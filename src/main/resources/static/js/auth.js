@@ -188,12 +188,14 @@ class AuthManager {
         if (this.wsReconnectTimer || !this.isAuthenticated()) {
             return;
         }
+        // 서버 재시작 시 모든 클라이언트가 같은 시점에 재연결하지 않도록 지연에 무작위 값(0~기본 지연)을 더함
+        const delay = this.wsReconnectDelayMs + Math.floor(Math.random() * this.wsReconnectDelayMs);
         this.wsReconnectTimer = setTimeout(() => {
             this.wsReconnectTimer = null;
             if (this.isAuthenticated()) {
                 this.connectWebSocket();
             }
-        }, this.wsReconnectDelayMs);
+        }, delay);
     }
 
     disconnectWebSocket() {
@@ -0,0 +1,102 @@
+package Readyplz.io.ReadyPlz;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * @Tag("benchmark") 측정용 공용 도구입니다. ./gradlew benchmark로만 실행되며 일반 test에서는 제외됩니다.
+ * JMH처럼 엄밀하지는 않으므로 같은 장비에서 전후를 비교하는 용도로만 씁니다 (워밍업 후 호출별 시간의 중앙값/p99).
+ */
+public final class Benchmarks {
+
+    // 결과를 버리지 않도록 모아 두는 값 (JIT가 측정 대상 호출을 없애지 못하게)
+    private static long sink;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * warmup회 실행한 뒤 iterations회 호출별 시간을 잽니다. 작업은 결과를 long으로 돌려줘야 합니다.
+     */
+    public static Timing time(int warmup, int iterations, LongSupplier work) {
+        for (int i = 0; i < warmup; i++) {
+            sink += work.getAsLong();
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            sink += work.getAsLong();
+            nanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(nanos);
+        return new Timing(nanos);
+    }
+
+    /**
+     * GC 후 힙 사용량 (바이트). 만든 객체를 잡아 둔 상태에서 전후 차이로 대략적인 유지 메모리를 잽니다.
+     */
+    public static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    /**
+     * 현재 스레드가 작업 한 번에 할당한 평균 바이트 (HotSpot 전용 MXBean). 첫 호출은 초기화가 섞이므로 재지 않습니다.
+     */
+    public static long allocatedBytesPerCall(int calls, Runnable work) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        work.run();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            work.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / calls;
+    }
+
+    public static void report(String format, Object... args) {
+        System.out.println("[benchmark] " + String.format(Locale.ROOT, format, args));
+    }
+
+    public static long sink() {
+        return sink;
+    }
+
+    public record Timing(long[] sortedNanos) {
+
+        public double medianMicros() {
+            return sortedNanos[sortedNanos.length / 2] / 1_000.0;
+        }
+
+        public double p99Micros() {
+            return sortedNanos[Math.min(sortedNanos.length - 1, (int) (sortedNanos.length * 0.99))] / 1_000.0;
+        }
+
+        public double meanMicros() {
+            long total = 0;
+            for (long nanos : sortedNanos) {
+                total += nanos;
+            }
+            return total / 1_000.0 / sortedNanos.length;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "median %.1fus, p99 %.1fus, mean %.1fus",
+                    medianMicros(), p99Micros(), meanMicros());
+        }
+    }
+}
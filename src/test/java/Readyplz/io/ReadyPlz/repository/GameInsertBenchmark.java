@@ -0,0 +1,110 @@
+package Readyplz.io.ReadyPlz.repository;
+
+import Readyplz.io.ReadyPlz.Benchmarks;
+import Readyplz.io.ReadyPlz.domain.Game;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게임 가져오기 쓰기 경로: 예전 방식(행마다 save(), 행마다 자동 커밋)과 지금 방식(청크마다 트랜잭션 하나 + insertAll 다중 행 INSERT)의 초당 행 수를 비교합니다.
+ * 기본은 인메모리 H2(MySQL 모드)라 네트워크 왕복이 없어, 실제 MySQL에서보다 차이가 작게 나옵니다 (문장/트랜잭션 수 차이만 반영).
+ * MySQL로 재려면 빈 스키마를 지정해 실행: ./gradlew benchmark --tests '*GameInsertBenchmark'
+ *   -Dbenchmark.datasource.url=jdbc:mysql://localhost:3306/bench -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${benchmark.datasource.url:jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE}",
+        "spring.datasource.username=${benchmark.datasource.username:sa}",
+        "spring.datasource.password=${benchmark.datasource.password:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 테스트 트랜잭션으로 감싸면 두 경로 모두 커밋하지 않으므로, 운영과 같이 각 경로가 직접 커밋하게 함
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GameInsertBenchmark {
+
+    private static final int ROWS = 20_000;
+    // JsonToDbService의 청크 크기와 같음
+    private static final int CHUNK_SIZE = 1000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clear() {
+        gameRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void saveVersusMultiRowInsert() {
+        Benchmarks.report("game import write path, %,d rows, chunk %,d", ROWS, CHUNK_SIZE);
+        // 첫 라운드는 JIT/커넥션 워밍업이 섞이므로 뒤 라운드 값을 비교에 사용
+        for (int round = 1; round <= ROUNDS; round++) {
+            long saveNanos = timed(this::saveEachRow);
+            long insertNanos = timed(this::insertPerChunk);
+            Benchmarks.report("  round %d: save() %,d rows/s | insertAll %,d rows/s (%.1fx)", round,
+                    rowsPerSecond(saveNanos), rowsPerSecond(insertNanos), (double) saveNanos / insertNanos);
+        }
+    }
+
+    private long timed(Runnable path) {
+        long startedAt = System.nanoTime();
+        path.run();
+        long elapsed = System.nanoTime() - startedAt;
+        assertThat(gameRepository.count()).isEqualTo(ROWS);
+        gameRepository.deleteAllInBatch();
+        return elapsed;
+    }
+
+    // 예전 경로: processBatch의 @Transactional이 자기 호출로 무시되어 save()마다 INSERT와 커밋
+    private void saveEachRow() {
+        for (Game game : games()) {
+            gameRepository.save(game);
+        }
+    }
+
+    // 지금 경로: 청크마다 트랜잭션 하나, 그 안에서 다중 행 INSERT
+    private void insertPerChunk() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Game> games = games();
+        for (int from = 0; from < games.size(); from += CHUNK_SIZE) {
+            List<Game> chunk = games.subList(from, Math.min(games.size(), from + CHUNK_SIZE));
+            transactionTemplate.executeWithoutResult(status -> gameRepository.insertAll(chunk));
+        }
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+    private static List<Game> games() {
+        List<Game> games = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            games.add(Game.builder()
+                    .appid(1_000_000 + i)
+                    .name("Benchmark Game " + i)
+                    .headerImageUrl("https://cdn.example.com/apps/" + i + "/header.jpg")
+                    .releaseDate(LocalDate.of(2020, 1, 1).plusDays(i % 1000))
+                    .build());
+        }
+        return games;
+    }
+}
@@ -0,0 +1,107 @@
+package Readyplz.io.ReadyPlz.security;
+
+import Readyplz.io.ReadyPlz.service.SecurityVersionService;
+import Readyplz.io.ReadyPlz.service.TokenService;
+import Readyplz.io.ReadyPlz.util.JwtTokenUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일반적인 페이지 로드(HTML 1건 + 정적 리소스)에서 Redis(블랙리스트)와 DB(사용자 로드) 호출 횟수를 확인합니다.
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final List<String> STATIC_RESOURCES = List.of(
+            "/css/style.css", "/css/home.css", "/js/apiClient.js", "/js/auth.js",
+            "/images/ReadyPlzBackGroundGraphic.png", "/style.css", "/favicon.ico", "/health");
+
+    private TokenService tokenService;
+    private UserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key-for-jwt-filter-0123456789abcdef");
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenValidity", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenValidity", 43200000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        UserDetails alice = User.withUsername("alice").password("{noop}pw").roles("USER").build();
+        tokenService = mock(TokenService.class);
+        userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(alice);
+
+        JwtTokenAuthenticator authenticator = new JwtTokenAuthenticator(jwtTokenUtil, userDetailsService,
+                tokenService, mock(SecurityVersionService.class), new VerifiedTokenCache(100, 60000L));
+        filter = new JwtAuthenticationFilter(authenticator,
+                new PublicPaths(new String[]{"/css/**", "/js/**", "/images/**", "/static/**", "/style.css", "/favicon.ico", "/health"}));
+        accessToken = jwtTokenUtil.generateAccessToken(alice);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staticResourcesSkipTokenProcessing() throws Exception {
+        for (String path : STATIC_RESOURCES) {
+            assertThat(send(path)).as(path).isNull();
+        }
+
+        verifyNoInteractions(tokenService, userDetailsService);
+    }
+
+    @Test
+    void pageLoadCostsOneBlacklistCheckAndOneUserLoad() throws Exception {
+        assertThat(send("/")).isNotNull();
+        for (String path : STATIC_RESOURCES) {
+            send(path);
+        }
+
+        verify(tokenService, times(1)).isBlacklisted(anyString());
+        verify(userDetailsService, times(1)).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void nextPageLoadReusesVerifiedTokenWithoutUserLoad() throws Exception {
+        send("/");
+        assertThat(send("/games")).isNotNull();
+
+        verify(tokenService, times(2)).isBlacklisted(anyString());
+        verify(userDetailsService, times(1)).loadUserByUsername(anyString());
+    }
+
+    // 요청 하나를 필터에 통과시키고, 필터 체인 안에서 본 인증 정보를 반환
+    private Authentication send(String path) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setCookies(new Cookie("accessToken", accessToken));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,30 @@
+package Readyplz.io.ReadyPlz.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게임 이름 비교 키가 유니크 인덱스 collation(utf8mb4_0900_ai_ci)처럼 대소문자, 악센트, 호환 문자를 무시하는지 확인합니다.
+ */
+class JsonToDbServiceNameKeyTest {
+
+    @Test
+    void ignoresCaseAndAccents() {
+        assertThat(JsonToDbService.nameKey("Pokémon")).isEqualTo(JsonToDbService.nameKey("POKEMON"));
+        assertThat(JsonToDbService.nameKey("Café Übermensch")).isEqualTo("cafe ubermensch");
+    }
+
+    @Test
+    void foldsCompatibilityCharacters() {
+        // 합자와 전각 문자
+        assertThat(JsonToDbService.nameKey("ﬁnal")).isEqualTo("final");
+        assertThat(JsonToDbService.nameKey("ＡＢＣ")).isEqualTo("abc");
+    }
+
+    @Test
+    void keepsDistinctNamesDistinct() {
+        assertThat(JsonToDbService.nameKey("Portal 2")).isNotEqualTo(JsonToDbService.nameKey("Portal"));
+        assertThat(JsonToDbService.nameKey("리듬 게임")).isNotEqualTo(JsonToDbService.nameKey("리듬 게이"));
+    }
+}
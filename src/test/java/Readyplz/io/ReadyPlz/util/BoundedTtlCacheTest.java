@@ -0,0 +1,154 @@
+package Readyplz.io.ReadyPlz.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증 경로 로컬 캐시의 만료, 세그먼트별 LRU 제거, 통계를 확인합니다.
+ * Integer 키는 해시가 값 그대로라 16의 배수 키들은 같은 세그먼트에 들어갑니다.
+ */
+class BoundedTtlCacheTest {
+
+    @Test
+    void rejectsNonPositiveMaxSize() {
+        assertThatThrownBy(() -> new BoundedTtlCache<String, String>(0, 1000L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() throws InterruptedException {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(100, 60_000L);
+        cache.put("short", "a", 20L);
+        cache.put("long", "b");
+
+        assertThat(cache.get("short")).isEqualTo("a");
+        Thread.sleep(50L);
+
+        assertThat(cache.get("short")).isNull();
+        assertThat(cache.get("long")).isEqualTo("b");
+    }
+
+    @Test
+    void ttlIsCappedAtDefault() throws InterruptedException {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(100, 20L);
+        cache.put("key", "value", 60_000L);
+
+        Thread.sleep(50L);
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void nonPositiveTtlAndNullsAreNotStored() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(100, 60_000L);
+        cache.put("expired", "value", 0L);
+        cache.put("negative", "value", -5L);
+        cache.put(null, "value");
+        cache.put("nullValue", null);
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedPerSegment() {
+        // 세그먼트당 2개
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>(32, 60_000L);
+        cache.put(0, "zero");
+        cache.put(16, "sixteen");
+        cache.get(0); // 0을 최근 사용으로
+        cache.put(32, "thirty-two");
+
+        assertThat(cache.get(0)).isEqualTo("zero");
+        assertThat(cache.get(16)).isNull();
+        assertThat(cache.get(32)).isEqualTo("thirty-two");
+        assertThat(cache.stats().get("evictions")).isEqualTo(1L);
+
+        // 다른 세그먼트의 키는 영향 없음
+        cache.put(1, "one");
+        cache.put(2, "two");
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    void computeIfAbsentLoadsOnlyWhenMissing() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(100, 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.computeIfAbsent("k", key -> loads.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.computeIfAbsent("k", key -> loads.incrementAndGet())).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // loader가 null이면 저장하지 않음
+        assertThat(cache.computeIfAbsent("none", key -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictAndEvictIfRemoveMatchingEntries() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(100, 60_000L);
+        cache.put("alice:1", "a1");
+        cache.put("alice:2", "a2");
+        cache.put("bob:1", "b1");
+
+        cache.evict("alice:1");
+        cache.evict(null);
+        assertThat(cache.get("alice:1")).isNull();
+
+        cache.evictIf((key, value) -> key.startsWith("alice:"));
+        assertThat(cache.get("alice:2")).isNull();
+        assertThat(cache.get("bob:1")).isEqualTo("b1");
+
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void statsCountHitsAndMisses() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(100, 60_000L);
+        cache.put("k", "v");
+        cache.get("k");
+        cache.get("k");
+        cache.get("missing");
+
+        assertThat(cache.stats().get("size")).isEqualTo(1);
+        assertThat(cache.stats().get("hits")).isEqualTo(2L);
+        assertThat(cache.stats().get("misses")).isEqualTo(1L);
+        assertThat((double) cache.stats().get("hitRatio")).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void sizeStaysBoundedUnderConcurrentWrites() throws Exception {
+        BoundedTtlCache<Integer, Integer> cache = new BoundedTtlCache<>(160, 60_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 10_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        cache.put(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isEqualTo(160);
+    }
+}
@@ -0,0 +1,135 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카탈로그 스냅샷 파일을 쓰고 다시 매핑했을 때 원본 카탈로그와 같은 내용/조회 결과가 나오는지 확인합니다.
+ * 형식이 맞지 않는 파일은 IOException으로 거부해야 합니다 (호출하는 쪽에서 DB 로드로 대체).
+ */
+class GameCatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripKeepsEveryColumn() throws IOException {
+        GameCatalog original = GameCatalog.of(sampleGames());
+        Path path = tempDir.resolve("catalog.snapshot");
+
+        long written = GameCatalogSnapshot.write(original, "3:42:2024-01-01T00:00", path);
+        GameCatalogSnapshot snapshot = GameCatalogSnapshot.map(path);
+        GameCatalog mapped = snapshot.getCatalog();
+
+        assertThat(snapshot.getFingerprint()).isEqualTo("3:42:2024-01-01T00:00");
+        assertThat(snapshot.getFileBytes()).isEqualTo(written);
+        assertThat(Files.size(path)).isEqualTo(written);
+        assertThat(Files.exists(tempDir.resolve("catalog.snapshot.tmp"))).isFalse();
+        assertThat(mapped.isMapped()).isTrue();
+        assertThat(original.isMapped()).isFalse();
+        assertThat(mapped.size()).isEqualTo(original.size());
+        for (int rank = 0; rank < original.size(); rank++) {
+            assertThat(mapped.summaryAt(rank)).isEqualTo(original.summaryAt(rank));
+        }
+        assertThat(mapped.contentVersion()).isEqualTo(original.contentVersion());
+    }
+
+    @Test
+    void mappedCatalogAnswersLookups() throws IOException {
+        GameCatalog original = GameCatalog.of(sampleGames());
+        Path path = tempDir.resolve("nested/dir/catalog.snapshot");
+        GameCatalogSnapshot.write(original, "fp", path);
+        GameCatalog mapped = GameCatalogSnapshot.map(path).getCatalog();
+
+        for (long id : new long[]{1, 2, 3, 4, 5, 500, 999_999_999_999L}) {
+            assertThat(mapped.rankOfId(id)).isEqualTo(original.rankOfId(id));
+        }
+        assertThat(mapped.seek("portal", 0, false)).isEqualTo(original.seek("portal", 0, false));
+        // 색인 없이(스냅샷 직후) 순회한 결과와 색인을 만든 뒤의 결과가 같아야 함
+        int[] scanned = mapped.searchByName("port");
+        assertThat(mapped.isNameIndexReady()).isFalse();
+        mapped.warmNameIndex();
+        assertThat(mapped.isNameIndexReady()).isTrue();
+        assertThat(mapped.searchByName("port")).isEqualTo(scanned);
+        assertThat(mapped.searchByName("port")).isEqualTo(original.searchByName("port"));
+        assertThat(mapped.slice(0, 10)).isEqualTo(original.slice(0, 10));
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        Path path = tempDir.resolve("empty.snapshot");
+
+        GameCatalogSnapshot.write(GameCatalog.of(List.of()), "", path);
+        GameCatalogSnapshot snapshot = GameCatalogSnapshot.map(path);
+
+        assertThat(snapshot.getCatalog().size()).isEqualTo(0);
+        assertThat(snapshot.getFingerprint()).isEqualTo("");
+        assertThat(snapshot.getCatalog().contentVersion()).isEqualTo(GameCatalog.of(List.of()).contentVersion());
+    }
+
+    @Test
+    void rewriteReplacesPreviousFileWhileItIsMapped() throws IOException {
+        Path path = tempDir.resolve("catalog.snapshot");
+        GameCatalogSnapshot.write(GameCatalog.of(sampleGames().subList(0, 2)), "old", path);
+        GameCatalog oldMapped = GameCatalogSnapshot.map(path).getCatalog();
+        String oldFirstName = oldMapped.nameAt(0);
+
+        GameCatalogSnapshot.write(GameCatalog.of(sampleGames()), "new", path);
+        GameCatalogSnapshot reopened = GameCatalogSnapshot.map(path);
+
+        assertThat(reopened.getFingerprint()).isEqualTo("new");
+        assertThat(reopened.getCatalog().size()).isEqualTo(sampleGames().size());
+        // 이름을 바꿔 교체했으므로 이미 매핑한 이전 파일은 그대로 읽힘
+        assertThat(oldMapped.size()).isEqualTo(2);
+        assertThat(oldMapped.nameAt(0)).isEqualTo(oldFirstName);
+    }
+
+    @Test
+    void rejectsFilesInAnotherFormat() throws IOException {
+        Path notSnapshot = tempDir.resolve("text.snapshot");
+        Files.writeString(notSnapshot, "this is not a catalog snapshot file at all");
+        assertThatThrownBy(() -> GameCatalogSnapshot.map(notSnapshot)).isInstanceOf(IOException.class);
+
+        Path tooShort = tempDir.resolve("short.snapshot");
+        Files.write(tooShort, new byte[]{0x52, 0x50});
+        assertThatThrownBy(() -> GameCatalogSnapshot.map(tooShort)).isInstanceOf(IOException.class);
+
+        Path valid = tempDir.resolve("valid.snapshot");
+        GameCatalogSnapshot.write(GameCatalog.of(sampleGames()), "fp", valid);
+        byte[] bytes = Files.readAllBytes(valid);
+
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThatThrownBy(() -> GameCatalogSnapshot.map(truncated)).isInstanceOf(IOException.class);
+
+        Path otherVersion = tempDir.resolve("version.snapshot");
+        byte[] versionBumped = bytes.clone();
+        ByteBuffer.wrap(versionBumped).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 99);
+        Files.write(otherVersion, versionBumped);
+        assertThatThrownBy(() -> GameCatalogSnapshot.map(otherVersion)).isInstanceOf(IOException.class);
+    }
+
+    private static List<GameSummaryDTO> sampleGames() {
+        List<GameSummaryDTO> games = new ArrayList<>();
+        games.add(new GameSummaryDTO(3L, 400, "Portal", "https://cdn.example/400.jpg", 2007));
+        games.add(new GameSummaryDTO(1L, 620, "Portal 2", null, 2011));
+        games.add(new GameSummaryDTO(500L, 730, "Counter-Strike 2", "https://cdn.example/730.jpg", null));
+        games.add(new GameSummaryDTO(2L, 1_145_360, "Hades", "https://cdn.example/hades.jpg", 2020));
+        games.add(new GameSummaryDTO(4L, 105_600, "Terraria", "", 2011));
+        games.add(new GameSummaryDTO(999_999_999_999L, 2_000_000, "포켓몬 · Pokémon 🎮", null, 2024));
+        return games;
+    }
+}
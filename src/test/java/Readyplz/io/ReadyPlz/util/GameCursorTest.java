@@ -0,0 +1,73 @@
+package Readyplz.io.ReadyPlz.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋 페이지네이션 커서의 인코딩/디코딩 왕복과 잘못된 커서 처리를 확인합니다.
+ */
+class GameCursorTest {
+
+    @Test
+    void roundTripKeepsIdAndName() {
+        GameCursor decoded = GameCursor.decode(new GameCursor(42L, "Portal 2").encode());
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getName()).isEqualTo("Portal 2");
+        assertThat(decoded.isPopular()).isFalse();
+        assertThat(decoded.getOwnerCount()).isNull();
+    }
+
+    @Test
+    void namesWithSeparatorsAndUnicodeSurvive() {
+        for (String name : new String[]{"Counter-Strike: GO", ":leading colon", "p1:looks:popular", "포켓몬 🎮", ""}) {
+            GameCursor decoded = GameCursor.decode(new GameCursor(7L, name).encode());
+
+            assertThat(decoded).isNotNull();
+            assertThat(decoded.getId()).isEqualTo(7L);
+            assertThat(decoded.getName()).isEqualTo(name);
+            assertThat(decoded.isPopular()).isFalse();
+        }
+    }
+
+    @Test
+    void popularCursorKeepsOwnerCount() {
+        GameCursor decoded = GameCursor.decode(GameCursor.popular(9L, "Stardew Valley", 1234).encode());
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.isPopular()).isTrue();
+        assertThat(decoded.getOwnerCount()).isEqualTo(1234);
+        assertThat(decoded.getId()).isEqualTo(9L);
+        assertThat(decoded.getName()).isEqualTo("Stardew Valley");
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = GameCursor.popular(Long.MAX_VALUE, "??>>~~ / + =", 0).encode();
+
+        assertThat(encoded.matches("[A-Za-z0-9_-]+")).isTrue();
+    }
+
+    @Test
+    void invalidCursorsDecodeToNull() {
+        assertThat(GameCursor.decode(null)).isNull();
+        assertThat(GameCursor.decode("")).isNull();
+        assertThat(GameCursor.decode("   ")).isNull();
+        assertThat(GameCursor.decode("not base64!")).isNull();
+        assertThat(GameCursor.decode(raw("no-separator"))).isNull();
+        assertThat(GameCursor.decode(raw(":missing id"))).isNull();
+        assertThat(GameCursor.decode(raw("abc:not a number"))).isNull();
+        assertThat(GameCursor.decode(raw("p:1:missing count"))).isNull();
+        assertThat(GameCursor.decode(raw("px:1:bad count"))).isNull();
+        assertThat(GameCursor.decode(raw("p5:no id"))).isNull();
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,182 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.Benchmarks;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이름 검색: 트라이그램 색인과 전체 이름 순회(LIKE '%검색어%'와 같은 방식)의 검색 시간과 유지 메모리를 비교합니다.
+ * 오타 허용 검색(similar)은 모든 이름의 유사도를 계산하는 방식과 시간, 호출당 할당량을 비교합니다.
+ * 이름은 번들된 steam_games_data.json의 실제 이름과, 그 단어들을 고정 시드로 섞어 만든 이름으로 목표 개수를 채웁니다.
+ * 실행: ./gradlew benchmark --tests '*GameNameTrigramIndexBenchmark'
+ */
+@Tag("benchmark")
+class GameNameTrigramIndexBenchmark {
+
+    private static final int[] CATALOG_SIZES = {10_000, 100_000};
+    private static final List<String> QUERIES = List.of(
+            "counter", "strike", "the", "war", "simulator", "dark souls", "half-life", "legend of", "zzq", "ab");
+    // 오타가 있어 부분 문자열 검색 결과가 없는 검색어
+    private static final List<String> TYPO_QUERIES = List.of(
+            "conter strike", "half lfe", "dark sols", "simulatr", "the elder scrols", "portl");
+    // GameService 기본값과 같은 조건
+    private static final int FUZZY_LIMIT = 20;
+    private static final double FUZZY_MIN_SIMILARITY = 0.35;
+    private static final long FUZZY_BUDGET_NANOS = 20_000_000L;
+
+    @Test
+    void searchVersusLinearScan() throws IOException {
+        for (int size : CATALOG_SIZES) {
+            // 크기별로 메서드를 나눠 이전 크기의 색인이 지역 변수에 남아 메모리 측정에 섞이지 않게 함
+            compareSearch(catalogNames(size));
+        }
+    }
+
+    private void compareSearch(String[] names) {
+        long before = Benchmarks.usedHeapAfterGc();
+        String[] lowerNames = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lowerNames[i] = GameNameTrigramIndex.normalize(names[i]);
+        }
+        long scanBytes = Benchmarks.usedHeapAfterGc() - before;
+
+        before = Benchmarks.usedHeapAfterGc();
+        long buildStartedAt = System.nanoTime();
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(names);
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+        long indexBytes = Benchmarks.usedHeapAfterGc() - before;
+
+        Benchmarks.report("catalog %,d names: trigrams %,d, build %dms", names.length, index.trigramCount(), buildMillis);
+        Benchmarks.report("  memory: linear scan (lower-cased names) %,d KB, trigram index %,d KB (estimatedBytes %,d KB)",
+                scanBytes / 1024, indexBytes / 1024, index.estimatedBytes() / 1024);
+
+        for (String query : QUERIES) {
+            String keyword = GameNameTrigramIndex.normalize(query);
+            assertThat(index.search(keyword)).isEqualTo(scan(lowerNames, keyword));
+            Benchmarks.Timing indexed = Benchmarks.time(200, 2_000, () -> index.search(keyword).length);
+            Benchmarks.Timing scanned = Benchmarks.time(20, 200, () -> scan(lowerNames, keyword).length);
+            Benchmarks.report("  %-12s %,6d hits | index %s | scan %s", "\"" + query + "\"",
+                    index.search(keyword).length, indexed, scanned);
+        }
+    }
+
+    @Test
+    void similarVersusBruteForce() throws IOException {
+        String[] names = catalogNames(100_000);
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(names);
+        String[] lowerNames = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lowerNames[i] = GameNameTrigramIndex.normalize(names[i]);
+        }
+        Benchmarks.report("similar() on %,d names, limit %d, min similarity %.2f", names.length, FUZZY_LIMIT, FUZZY_MIN_SIMILARITY);
+
+        for (String query : TYPO_QUERIES) {
+            int[] unlimited = index.similar(query, FUZZY_LIMIT, FUZZY_MIN_SIMILARITY, Long.MAX_VALUE);
+            assertThat(unlimited).isEqualTo(bruteForceSimilar(lowerNames, query));
+
+            Benchmarks.Timing budgeted = Benchmarks.time(50, 500,
+                    () -> index.similar(query, FUZZY_LIMIT, FUZZY_MIN_SIMILARITY, FUZZY_BUDGET_NANOS).length);
+            Benchmarks.Timing bruteForce = Benchmarks.time(5, 50, () -> bruteForceSimilar(lowerNames, query).length);
+            long allocated = Benchmarks.allocatedBytesPerCall(200,
+                    () -> index.similar(query, FUZZY_LIMIT, FUZZY_MIN_SIMILARITY, FUZZY_BUDGET_NANOS));
+            Benchmarks.report("  %-20s %2d results | similar %s, %,d B/call | brute force %s", "\"" + query + "\"",
+                    unlimited.length, budgeted, allocated, bruteForce);
+        }
+    }
+
+    // 색인 없이 모든 이름의 트라이그램 유사도(Dice 계수)를 계산해 상위 limit개 (similar와 같은 점수, 같은 동률 처리)
+    static int[] bruteForceSimilar(String[] lowerNames, String keyword) {
+        String query = GameNameTrigramIndex.normalize(keyword).trim();
+        LongHashSet queryGrams = new LongHashSet(query.length());
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            queryGrams.add(trigram(query, i));
+        }
+        Integer[] ranks = new Integer[lowerNames.length];
+        double[] scores = new double[lowerNames.length];
+        int count = 0;
+        for (int rank = 0; rank < lowerNames.length; rank++) {
+            String name = lowerNames[rank];
+            LongHashSet seen = new LongHashSet(name.length());
+            int hits = 0;
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                long gram = trigram(name, i);
+                if (seen.add(gram) && queryGrams.contains(gram)) {
+                    hits++;
+                }
+            }
+            double score = 2.0 * hits / (queryGrams.size() + Math.max(1, name.length() - 2));
+            if (hits > 0 && score >= FUZZY_MIN_SIMILARITY) {
+                scores[rank] = score;
+                ranks[count++] = rank;
+            }
+        }
+        Integer[] matched = Arrays.copyOf(ranks, count);
+        Arrays.sort(matched, (a, b) -> scores[a] != scores[b] ? Double.compare(scores[b], scores[a]) : Integer.compare(a, b));
+        int[] top = new int[Math.min(FUZZY_LIMIT, count)];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = matched[i];
+        }
+        return top;
+    }
+
+    private static long trigram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    // 색인 없이 매 검색마다 모든 이름을 확인 (트라이그램 도입 전 DB LIKE 검색과 같은 방식)
+    static int[] scan(String[] lowerNames, String keyword) {
+        int[] matches = new int[lowerNames.length];
+        int count = 0;
+        for (int rank = 0; rank < lowerNames.length; rank++) {
+            if (lowerNames[rank].contains(keyword)) {
+                matches[count++] = rank;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // 실제 이름 + 실제 이름의 단어를 2~4개 섞은 이름으로 size개를 만들고 카탈로그처럼 이름 순 정렬
+    static String[] catalogNames(int size) throws IOException {
+        List<String> realNames = new ArrayList<>();
+        try (InputStream in = GameNameTrigramIndexBenchmark.class.getResourceAsStream("/steam_games_data.json")) {
+            for (JsonNode game : new ObjectMapper().readTree(in)) {
+                String name = game.path("name").asText("");
+                if (!name.isBlank()) {
+                    realNames.add(name);
+                }
+            }
+        }
+        List<String> words = new ArrayList<>();
+        for (String name : realNames) {
+            words.addAll(Arrays.asList(name.split("\\s+")));
+        }
+
+        Random random = new Random(42);
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            if (i < realNames.size()) {
+                names[i] = realNames.get(i);
+                continue;
+            }
+            StringBuilder name = new StringBuilder();
+            int count = 2 + random.nextInt(3);
+            for (int w = 0; w < count; w++) {
+                name.append(w == 0 ? "" : " ").append(words.get(random.nextInt(words.size())));
+            }
+            names[i] = name.append(' ').append(i).toString();
+        }
+        Arrays.sort(names, String.CASE_INSENSITIVE_ORDER);
+        return names;
+    }
+}
@@ -0,0 +1,209 @@
+package Readyplz.io.ReadyPlz.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트라이그램 색인 검색 결과가 LIKE '%검색어%'(대소문자 무시)를 전체 순회한 결과와 같은지 확인합니다.
+ * 목록 길이가 크게 다른 트라이그램을 섞어 교집합의 지수 탐색 구간이 넓게 걸리도록 합니다.
+ * 오타 허용 검색(similar)의 유사도 순서와 제한도 확인합니다.
+ */
+class GameNameTrigramIndexTest {
+
+    private static final String[] WORDS = {
+            "the", "dark", "souls", "portal", "space", "war", "craft", "star", "ship", "tale",
+            "legend", "of", "zelda", "city", "sim", "farm", "stardew", "valley", "half", "life"};
+
+    @Test
+    void searchMatchesFullScan() {
+        String[] names = randomNames(new Random(1), 3_000);
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(names);
+
+        for (String keyword : List.of("star", "STAR", "dark souls", "the", "craft war", "ship tale",
+                "valley", "d s", "sim ", "of zel", "portal portal", "xyz", "e", "st")) {
+            assertThat(index.search(keyword)).isEqualTo(scan(names, keyword));
+        }
+    }
+
+    @Test
+    void intersectionHandlesRareAndCommonTrigrams() {
+        // "common"은 거의 모든 이름에, "rare"는 일부 이름에만 있어 두 목록 길이 차이가 큼
+        String[] names = new String[5_000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = String.format("common %05d", i) + (i % 997 == 0 ? " rare" : "");
+        }
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(names);
+
+        assertThat(index.search("common")).hasSize(names.length);
+        assertThat(index.search("rare")).containsExactly(0, 997, 1994, 2991, 3988, 4985);
+        assertThat(index.search("common 0 rare")).isEmpty();
+        assertThat(index.search("4985 rare")).containsExactly(4985);
+        assertThat(index.search("9 rare")).isEqualTo(scan(names, "9 rare"));
+    }
+
+    @Test
+    void trigramsMustAppearContiguously() {
+        // "abcd"의 트라이그램(abc, bcd)이 모두 있지만 붙어 있지 않은 이름은 제외
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(new String[]{"abc bcd", "xabcdx", "ABCD"});
+
+        assertThat(index.search("abcd")).containsExactly(1, 2);
+        assertThat(index.trigramCount()).isGreaterThan(0);
+    }
+
+    @Test
+    void emptyAndNullKeywordsMatchNothing() {
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(new String[]{"Portal", "Portal 2"});
+
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+        assertThat(index.search("p")).containsExactly(0, 1);
+    }
+
+    @Test
+    void extendMatchesFullRebuild() {
+        Random random = new Random(3);
+        String[] oldNames = sorted(randomNames(random, 1_000));
+        String[] added = randomNames(random, 200);
+        String[] newNames = new String[oldNames.length + added.length];
+        System.arraycopy(oldNames, 0, newNames, 0, oldNames.length);
+        System.arraycopy(added, 0, newNames, oldNames.length, added.length);
+        newNames = sorted(newNames);
+
+        // 같은 이름이 여러 번 나올 수 있으므로 기존 이름부터 차례로 새 rank를 배정
+        boolean[] taken = new boolean[newNames.length];
+        int[] newRankOfOld = new int[oldNames.length];
+        int from = 0;
+        for (int oldRank = 0; oldRank < oldNames.length; oldRank++) {
+            int rank = from;
+            while (!newNames[rank].equals(oldNames[oldRank])) {
+                rank++;
+            }
+            taken[rank] = true;
+            newRankOfOld[oldRank] = rank;
+            from = rank + 1;
+        }
+        List<Integer> addedRankList = new ArrayList<>();
+        for (int rank = 0; rank < newNames.length; rank++) {
+            if (!taken[rank]) {
+                addedRankList.add(rank);
+            }
+        }
+        int[] addedRanks = addedRankList.stream().mapToInt(Integer::intValue).toArray();
+
+        GameNameTrigramIndex extended = GameNameTrigramIndex.build(oldNames).extend(newRankOfOld, newNames, addedRanks);
+        GameNameTrigramIndex rebuilt = GameNameTrigramIndex.build(newNames);
+
+        assertThat(extended.trigramCount()).isEqualTo(rebuilt.trigramCount());
+        for (String keyword : List.of("star", "dark souls", "the", "farm sim", "al", "half life legend")) {
+            assertThat(extended.search(keyword)).isEqualTo(rebuilt.search(keyword));
+        }
+    }
+
+    @Test
+    void similarToleratesTypos() {
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(
+                new String[]{"Counter-Strike", "Portal 2", "Stardew Valley", "Starbound", "The Witcher 3"});
+
+        assertThat(index.search("stardew vally")).isEmpty();
+        assertThat(index.similar("stardew vally", 3, 0.3, Long.MAX_VALUE)).containsExactly(2);
+        assertThat(index.similar("witchr 3", 3, 0.3, Long.MAX_VALUE)).containsExactly(4);
+    }
+
+    @Test
+    void similarOrdersByScoreThenRankAndRespectsLimit() {
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(
+                new String[]{"star wars", "star war", "star", "stars", "wars"});
+
+        // "star war"는 검색어와 같고, 다른 이름은 일부 트라이그램만 공유
+        int[] all = index.similar("star war", 10, 0.0, Long.MAX_VALUE);
+        assertThat(all[0]).isEqualTo(1);
+        assertThat(all).hasSize(5);
+        assertThat(index.similar("star war", 2, 0.0, Long.MAX_VALUE)).containsExactly(all[0], all[1]);
+
+        // 유사도가 같은 이름은 rank 순
+        GameNameTrigramIndex ties = GameNameTrigramIndex.build(new String[]{"abcx", "abcy", "abcz"});
+        assertThat(ties.similar("abc", 10, 0.0, Long.MAX_VALUE)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void similarFiltersByMinimumSimilarityAndShortKeywords() {
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(new String[]{"portal", "portal knights and dragons"});
+
+        assertThat(index.similar("portal", 10, 0.9, Long.MAX_VALUE)).containsExactly(0);
+        assertThat(index.similar("po", 10, 0.0, Long.MAX_VALUE)).isEmpty();
+        assertThat(index.similar("portal", 0, 0.0, Long.MAX_VALUE)).isEmpty();
+        assertThat(index.similar("zzzzzz", 10, 0.0, Long.MAX_VALUE)).isEmpty();
+        // 예산이 0이어도 가장 희소한 목록의 앞부분까지는 반영
+        assertThat(index.similar("portal", 10, 0.0, 0L)).isNotEmpty();
+    }
+
+    @Test
+    void similarStopsInsideLongListWhenBudgetIsSpent() {
+        String[] names = new String[10_000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = String.format("common %05d", i);
+        }
+        GameNameTrigramIndex index = GameNameTrigramIndex.build(names);
+
+        assertThat(index.similar("common", names.length, 0.0, Long.MAX_VALUE)).hasSize(names.length);
+        // 모든 목록이 이름 수만큼 길어도 첫 목록을 끝까지 돌지 않고 멈춤
+        int[] partial = index.similar("common", names.length, 0.0, 0L);
+        assertThat(partial).isNotEmpty();
+        assertThat(partial.length).isLessThan(names.length);
+    }
+
+    @Test
+    void similarGivesSameResultsWhenScratchIsReused() {
+        String[] names = randomNames(new Random(3), 2_000);
+        List<String> keywords = List.of("stardew valey", "dark sols", "portl", "legnd of zelda", "cty sim", "farm life");
+
+        List<int[]> expected = new ArrayList<>();
+        for (String keyword : keywords) {
+            expected.add(GameNameTrigramIndex.build(names).similar(keyword, 20, 0.2, Long.MAX_VALUE));
+        }
+        GameNameTrigramIndex shared = GameNameTrigramIndex.build(names);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < keywords.size(); i++) {
+                assertThat(shared.similar(keywords.get(i), 20, 0.2, Long.MAX_VALUE)).isEqualTo(expected.get(i));
+            }
+        }
+    }
+
+    private static String[] randomNames(Random random, int count) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int words = 1 + random.nextInt(4);
+            for (int w = 0; w < words; w++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                name.append(w == 0 ? "" : " ").append(random.nextBoolean() ? word.toUpperCase(Locale.ROOT) : word);
+            }
+            names[i] = name.toString();
+        }
+        return names;
+    }
+
+    private static String[] sorted(String[] names) {
+        String[] copy = names.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static int[] scan(String[] names, String keyword) {
+        String query = keyword.toLowerCase(Locale.ROOT);
+        List<Integer> matches = new ArrayList<>();
+        for (int rank = 0; rank < names.length; rank++) {
+            if (names[rank].toLowerCase(Locale.ROOT).contains(query)) {
+                matches.add(rank);
+            }
+        }
+        return matches.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
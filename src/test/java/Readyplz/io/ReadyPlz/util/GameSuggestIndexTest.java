@@ -0,0 +1,151 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.dto.SummaryDTO.GameSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 색인의 접두사 구간 + 세그먼트 트리 상위 k개 결과를 확인합니다.
+ * 무작위 가중치 변경 뒤에도 접두사 구간을 전부 정렬한 결과와 같아야 합니다.
+ */
+class GameSuggestIndexTest {
+
+    private static final Map<String, Integer> OWNER_COUNTS = Map.of(
+            "Counter-Strike", 50,
+            "Counter-Strike 2", 90,
+            "Counter Strike: GO", 70,
+            "Portal", 40,
+            "Portal 2", 60,
+            "Civilization VI", 30,
+            "Cities: Skylines", 30,
+            "Celeste", 0);
+
+    private GameCatalog catalog;
+    private GameSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<GameSummaryDTO> games = new ArrayList<>();
+        long id = 1;
+        for (String name : OWNER_COUNTS.keySet()) {
+            games.add(new GameSummaryDTO(id, (int) id * 10, name, null, null));
+            id++;
+        }
+        catalog = GameCatalog.of(games);
+        int[] ownerCountByRank = new int[catalog.size()];
+        for (int rank = 0; rank < catalog.size(); rank++) {
+            ownerCountByRank[rank] = OWNER_COUNTS.get(catalog.nameAt(rank));
+        }
+        index = GameSuggestIndex.build(catalog, ownerCountByRank);
+    }
+
+    @Test
+    void normalizeCollapsesPunctuationAndCase() {
+        assertThat(GameSuggestIndex.normalize("Counter-Strike: GO")).isEqualTo("counter strike go");
+        assertThat(GameSuggestIndex.normalize("  --Portal  2!")).isEqualTo("portal 2");
+        assertThat(GameSuggestIndex.normalize(null)).isEqualTo("");
+    }
+
+    @Test
+    void topKOrdersByWeightThenName() {
+        assertThat(names(index.topK("counter", 10))).containsExactly("Counter-Strike 2", "Counter Strike: GO", "Counter-Strike");
+        assertThat(names(index.topK("COUNTER STRIKE", 2))).containsExactly("Counter-Strike 2", "Counter Strike: GO");
+        // 가중치가 같으면 정규화 이름 순
+        assertThat(names(index.topK("ci", 10))).containsExactly("Cities: Skylines", "Civilization VI");
+        assertThat(names(index.topK("c", 10))).containsExactly(
+                "Counter-Strike 2", "Counter Strike: GO", "Counter-Strike", "Cities: Skylines", "Civilization VI", "Celeste");
+    }
+
+    @Test
+    void topKWithNoMatchOrEmptyPrefixIsEmpty() {
+        assertThat(index.topK("zelda", 5)).isEmpty();
+        assertThat(index.topK("", 5)).isEmpty();
+        assertThat(index.topK("!!", 5)).isEmpty();
+        assertThat(index.topK("portal", 0)).isEmpty();
+    }
+
+    @Test
+    void adjustWeightReordersResults() {
+        int portal = rankOf("Portal");
+        index.adjustWeight(portal, 25);
+
+        assertThat(index.weightOf(portal)).isEqualTo(65);
+        assertThat(names(index.topK("portal", 2))).containsExactly("Portal", "Portal 2");
+
+        // 0 아래로는 내려가지 않음
+        index.adjustWeight(portal, -1_000);
+        assertThat(index.weightOf(portal)).isEqualTo(0);
+        assertThat(names(index.topK("portal", 2))).containsExactly("Portal 2", "Portal");
+
+        // 범위를 벗어난 rank는 무시
+        index.adjustWeight(-1, 5);
+        index.adjustWeight(catalog.size(), 5);
+    }
+
+    @Test
+    void resetWeightsReplacesDriftedWeights() {
+        index.adjustWeight(rankOf("Celeste"), 1_000);
+        assertThat(names(index.topK("c", 1))).containsExactly("Celeste");
+
+        int[] ownerCountByRank = new int[catalog.size()];
+        ownerCountByRank[rankOf("Civilization VI")] = 5;
+        index.resetWeights(ownerCountByRank);
+
+        assertThat(index.weightOf(rankOf("Celeste"))).isEqualTo(0);
+        assertThat(names(index.topK("c", 2))).containsExactly("Civilization VI", "Celeste");
+    }
+
+    @Test
+    void topKMatchesSortedPrefixRangeAfterRandomUpdates() {
+        Random random = new Random(11);
+        String[] words = {"alpha", "beta", "gamma", "delta"};
+        List<GameSummaryDTO> games = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i;
+            games.add(new GameSummaryDTO((long) i + 1, i, name, null, null));
+        }
+        GameCatalog bigCatalog = GameCatalog.of(games);
+        int[] weights = new int[bigCatalog.size()];
+        for (int rank = 0; rank < weights.length; rank++) {
+            weights[rank] = random.nextInt(20);
+        }
+        GameSuggestIndex bigIndex = GameSuggestIndex.build(bigCatalog, weights.clone());
+        for (int i = 0; i < 5_000; i++) {
+            int rank = random.nextInt(weights.length);
+            int delta = random.nextInt(7) - 3;
+            weights[rank] = Math.max(0, weights[rank] + delta);
+            bigIndex.adjustWeight(rank, delta);
+        }
+
+        for (String prefix : List.of("alpha", "beta gamma", "delta delta 1", "g")) {
+            String key = GameSuggestIndex.normalize(prefix);
+            int[] expected = IntStream.range(0, bigCatalog.size()).boxed()
+                    .filter(rank -> GameSuggestIndex.normalize(bigCatalog.nameAt(rank)).startsWith(key))
+                    .sorted(Comparator.comparingInt((Integer rank) -> -weights[rank])
+                            .thenComparing(rank -> GameSuggestIndex.normalize(bigCatalog.nameAt(rank)))
+                            .thenComparingInt(rank -> rank))
+                    .limit(20)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertThat(bigIndex.topK(prefix, 20)).isEqualTo(expected);
+        }
+    }
+
+    private int rankOf(String name) {
+        return IntStream.range(0, catalog.size()).filter(rank -> catalog.nameAt(rank).equals(name)).findFirst().orElseThrow();
+    }
+
+    private List<String> names(int[] ranks) {
+        return Arrays.stream(ranks).mapToObj(catalog::nameAt).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package Readyplz.io.ReadyPlz.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IntHashSet이 HashSet<Integer>와 같은 결과를 내는지 확인합니다 (0 값, 재해시, 음수 포함).
+ */
+class IntHashSetTest {
+
+    @Test
+    void zeroIsStoredSeparatelyFromEmptySlots() {
+        IntHashSet set = new IntHashSet(4);
+
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsPastExpectedSizeWithoutLosingValues() {
+        IntHashSet set = new IntHashSet(1);
+        long initialBytes = set.estimatedBytes();
+
+        for (int value = 1; value <= 10_000; value++) {
+            assertThat(set.add(value)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        assertThat(set.estimatedBytes()).isGreaterThan(initialBytes);
+        for (int value = 1; value <= 10_000; value++) {
+            assertThat(set.contains(value)).isTrue();
+        }
+        assertThat(set.contains(10_001)).isFalse();
+    }
+
+    @Test
+    void matchesHashSetForRandomValues() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet(100);
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            // 좁은 범위로 중복 추가도 섞음
+            int value = random.nextInt(40_000) - 20_000;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int value = -21_000; value < 21_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @Test
+    void extremeValuesAreDistinct() {
+        IntHashSet set = new IntHashSet(4);
+
+        set.add(Integer.MIN_VALUE);
+        set.add(Integer.MAX_VALUE);
+        set.add(-1);
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(Integer.MIN_VALUE)).isTrue();
+        assertThat(set.contains(Integer.MAX_VALUE)).isTrue();
+        assertThat(set.contains(-1)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.Benchmarks;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터의 요청당 토큰 확인: 예전 방식(호출마다 키/파서를 새로 만들어 세 번 파싱)과
+ * 지금 방식(기동 시 만든 파서로 verify 한 번 + VerifiedJwt로 사용자/만료 확인)의 시간과 호출당 할당량을 비교합니다.
+ * 실행: ./gradlew benchmark --tests '*JwtVerifyBenchmark'
+ */
+@Tag("benchmark")
+class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-verify-0123456789abcdef";
+
+    @Test
+    void parseOnceVersusParseThreeTimes() {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenValidity", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenValidity", 43200000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        UserDetails user = new User("benchmark-user", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        String token = jwtTokenUtil.generateAccessToken(user, 1L);
+
+        LongSupplier before = () -> {
+            // 예전 필터: extractUsername 후 validateToken(token)이 다시 extractUsername, extractExpiration
+            String username = legacyClaims(token).getSubject();
+            boolean valid = legacyClaims(token).getSubject().equals(user.getUsername())
+                    && !legacyClaims(token).getExpiration().before(new Date());
+            return valid ? username.length() : 0;
+        };
+        LongSupplier after = () -> {
+            VerifiedJwt jwt = jwtTokenUtil.verify(token);
+            return jwtTokenUtil.validateToken(jwt, user) ? jwt.getSubject().length() : 0;
+        };
+        assertThat(before.getAsLong()).isEqualTo(after.getAsLong()).isPositive();
+
+        Benchmarks.Timing parsedThreeTimes = Benchmarks.time(20_000, 50_000, before);
+        Benchmarks.Timing parsedOnce = Benchmarks.time(20_000, 50_000, after);
+        Benchmarks.report("JWT check per request (HS256, %d chars)", token.length());
+        Benchmarks.report("  before (3 parses, new key/parser each): %s, %,d B/call",
+                parsedThreeTimes, Benchmarks.allocatedBytesPerCall(2_000, before::getAsLong));
+        Benchmarks.report("  after  (verify once, cached parser):    %s, %,d B/call",
+                parsedOnce, Benchmarks.allocatedBytesPerCall(2_000, after::getAsLong));
+    }
+
+    // 기존 extractAllClaims: 호출마다 서명 키와 파서를 새로 생성
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
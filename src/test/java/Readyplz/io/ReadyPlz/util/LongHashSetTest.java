@@ -0,0 +1,67 @@
+package Readyplz.io.ReadyPlz.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LongHashSet이 HashSet<Long>과 같은 결과를 내는지 확인합니다 (0 값, 재해시, 상위 비트만 다른 값 포함).
+ */
+class LongHashSetTest {
+
+    @Test
+    void zeroIsStoredSeparatelyFromEmptySlots() {
+        LongHashSet set = new LongHashSet(4);
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void valuesDifferingOnlyInHighBitsAreDistinct() {
+        LongHashSet set = new LongHashSet(4);
+
+        for (long high = 1; high <= 1_000; high++) {
+            assertThat(set.add(high << 32)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(1_000);
+        for (long high = 1; high <= 1_000; high++) {
+            assertThat(set.contains(high << 32)).isTrue();
+        }
+        assertThat(set.contains(1L)).isFalse();
+    }
+
+    @Test
+    void matchesHashSetForRandomValues() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet(16);
+        long initialBytes = set.estimatedBytes();
+        Set<Long> expected = new HashSet<>();
+        long[] probes = new long[60_000];
+
+        for (int i = 0; i < probes.length; i++) {
+            // 절반은 이미 넣은 값을 다시 넣어 중복 처리도 확인
+            long value = i % 2 == 1 ? probes[i - 1] : random.nextLong();
+            probes[i] = value;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.estimatedBytes()).isGreaterThan(initialBytes);
+        for (long value : probes) {
+            assertThat(set.contains(value)).isTrue();
+        }
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong();
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
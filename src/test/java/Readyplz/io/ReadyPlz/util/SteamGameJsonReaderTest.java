@@ -0,0 +1,100 @@
+package Readyplz.io.ReadyPlz.util;
+
+import Readyplz.io.ReadyPlz.dto.SteamGameDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게임 JSON 스트리밍 리더가 두 가지 파일 형식을 읽고 청크 크기대로 나눠 넘기는지 확인합니다.
+ */
+class SteamGameJsonReaderTest {
+
+    // Spring Boot 기본 ObjectMapper처럼 모르는 필드는 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void readsRootArrayInChunks() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 7; i++) {
+            json.append(i == 1 ? "" : ",")
+                    .append("{\"appid\":").append(i)
+                    .append(",\"name\":\"Game ").append(i)
+                    .append("\",\"header_image\":\"img").append(i)
+                    .append("\",\"release_date\":\"1 Jan, 2020\"}");
+        }
+        json.append("]");
+        List<List<SteamGameDTO>> chunks = new ArrayList<>();
+
+        long total = SteamGameJsonReader.readInChunks(objectMapper, stream(json.toString()), 3, chunks::add);
+
+        assertThat(total).isEqualTo(7L);
+        assertThat(chunks.stream().map(List::size).toList()).containsExactly(3, 3, 1);
+        SteamGameDTO last = chunks.get(2).get(0);
+        assertThat(last.getAppId()).isEqualTo(7L);
+        assertThat(last.getName()).isEqualTo("Game 7");
+        assertThat(last.getHeaderImage()).isEqualTo("img7");
+        assertThat(last.getReleaseDate()).isEqualTo("1 Jan, 2020");
+    }
+
+    @Test
+    void readsSteamApplistAndSkipsOtherFields() throws IOException {
+        String json = "{\"meta\":{\"nested\":[1,2,{\"apps\":[]}]},\"version\":3,"
+                + "\"applist\":{\"count\":2,\"extra\":{\"apps\":[{\"appid\":99}]},"
+                + "\"apps\":[{\"appid\":10,\"name\":\"Counter-Strike\",\"unknown\":[1]},{\"appId\":20,\"name\":\"Team Fortress\"}]}}";
+        List<SteamGameDTO> games = new ArrayList<>();
+
+        long total = SteamGameJsonReader.readInChunks(objectMapper, stream(json), 100, games::addAll);
+
+        assertThat(total).isEqualTo(2L);
+        assertThat(games.stream().map(SteamGameDTO::getAppId).toList()).containsExactly(10L, 20L);
+        assertThat(games.stream().map(SteamGameDTO::getName).toList()).containsExactly("Counter-Strike", "Team Fortress");
+    }
+
+    @Test
+    void exactMultipleOfChunkSizeHasNoEmptyTrailingChunk() throws IOException {
+        List<Integer> sizes = new ArrayList<>();
+
+        long total = SteamGameJsonReader.readInChunks(objectMapper,
+                stream("[{\"appid\":1},{\"appid\":2},{\"appid\":3},{\"appid\":4}]"), 2, chunk -> sizes.add(chunk.size()));
+
+        assertThat(total).isEqualTo(4L);
+        assertThat(sizes).containsExactly(2, 2);
+    }
+
+    @Test
+    void emptyArrayReadsNothing() throws IOException {
+        List<List<SteamGameDTO>> chunks = new ArrayList<>();
+
+        assertThat(SteamGameJsonReader.readInChunks(objectMapper, stream("[]"), 10, chunks::add)).isEqualTo(0L);
+        assertThat(SteamGameJsonReader.readInChunks(objectMapper, stream("{\"applist\":{\"apps\":[]}}"), 10, chunks::add)).isEqualTo(0L);
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void unsupportedStructuresAreRejected() {
+        assertThatThrownBy(() -> SteamGameJsonReader.readInChunks(objectMapper, stream("{\"apps\":[]}"), 10, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SteamGameJsonReader.readInChunks(objectMapper, stream("{\"applist\":[]}"), 10, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SteamGameJsonReader.readInChunks(objectMapper, stream("\"text\""), 10, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SteamGameJsonReader.readInChunks(objectMapper, stream("[{\"appid\":1}, 2]"), 10, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}